@@ -0,0 +1,63 @@
+package game.benchmarks;
+
+import game.Board;
+import game.MoveUndo;
+import game.feedbacks.Feedback;
+import game.pieces.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de {@code Board.executeAction} para um movimento simples e para cada tipo de combate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExecuteActionBenchmark {
+
+    /**
+     * Jogada da peça do Player1 em [A, 2] para [A, 3]; o tipo define o que está no destino.
+     */
+    @Param({"MOVE", "ATTACK", "DEFEAT", "EQUAL_STRENGTH", "LAND_MINE", "LAND_MINE_DEACTIVATION", "PRISONER"})
+    public String outcome;
+
+    private Board fightBoard;
+    private PieceAction action;
+
+    @Setup
+    public void setup() {
+        fightBoard = Positions.emptyBoard();
+        Piece attacker = switch (outcome) {
+            case "ATTACK" -> new Major(Positions.PLAYER1, fightBoard);
+            case "LAND_MINE_DEACTIVATION" -> new Corporal(Positions.PLAYER1, fightBoard);
+            default -> new Sargent(Positions.PLAYER1, fightBoard);
+        };
+        Piece defender = switch (outcome) {
+            case "MOVE" -> null;
+            case "DEFEAT" -> new Major(Positions.PLAYER2, fightBoard);
+            case "LAND_MINE", "LAND_MINE_DEACTIVATION" -> new LandMine(Positions.PLAYER2, fightBoard);
+            case "PRISONER" -> new Prisoner(Positions.PLAYER2, fightBoard);
+            default -> new Sargent(Positions.PLAYER2, fightBoard);
+        };
+        fightBoard.setPiece(0, 1, attacker);
+        fightBoard.setPiece(0, 2, defender);
+        // Peças móveis longe do combate para que nenhum lado fique sem jogadas
+        fightBoard.setPiece(9, 9, new Soldier(Positions.PLAYER1, fightBoard));
+        fightBoard.setPiece(9, 0, new Soldier(Positions.PLAYER2, fightBoard));
+        action = new PieceAction(attacker, 0, 2);
+    }
+
+    /**
+     * {@code executeAction} desfeito com {@code unmakeMove} para repetir a mesma posição.
+     */
+    @Benchmark
+    public Feedback executeAction() {
+        MoveUndo undo = fightBoard.makeMove(action);
+        fightBoard.unmakeMove(undo);
+        return undo.getFeedback();
+    }
+}
@@ -0,0 +1,46 @@
+package game.benchmarks;
+
+import game.Board;
+import game.BoardView;
+import game.Moves;
+import game.players.EnemyBeliefs;
+import game.players.SimplePlayer;
+import game.search.Expectimax;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempo de uma busca do {@link Expectimax} em profundidade fixa na posição inicial, incluindo a cópia do
+ * tabuleiro e o cálculo das distribuições das peças mascaradas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpectimaxBenchmark {
+    private BoardView view;
+    private EnemyBeliefs beliefs;
+    private int[] moves;
+    private int count;
+
+    @Param({"3", "4"})
+    public int depth;
+
+    @Setup
+    public void setup() {
+        Board board = Positions.startingBoard(new SimplePlayer(Positions.PLAYER1), new SimplePlayer(Positions.PLAYER2));
+        view = board.getHiddenView(Positions.PLAYER1);
+        beliefs = new EnemyBeliefs(Positions.PLAYER1, true);
+        moves = new int[Moves.MAX_MOVES];
+        count = view.generateMoves(moves);
+    }
+
+    @Benchmark
+    public int search() {
+        Expectimax search = new Expectimax(view.copy(), Positions.PLAYER1, Positions.PLAYER2, beliefs::probability);
+        return search.search(moves, count, Long.MAX_VALUE, depth);
+    }
+}
@@ -0,0 +1,28 @@
+package game.benchmarks;
+
+import game.Game;
+import game.GameResult;
+import game.output.GameOutput;
+import game.players.SimplePlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Partida completa SimplePlayer x SimplePlayer sem saída no console, sempre com a mesma semente.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    @Benchmark
+    public GameResult simplePlayerGame() {
+        Game game = new Game(new SimplePlayer(Positions.PLAYER1), new SimplePlayer(Positions.PLAYER2), GameOutput.none());
+        game.setSeed(Positions.SEED);
+        return game.start();
+    }
+}
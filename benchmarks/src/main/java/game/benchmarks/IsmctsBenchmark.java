@@ -0,0 +1,45 @@
+package game.benchmarks;
+
+import game.Board;
+import game.BoardView;
+import game.players.EnemyBeliefs;
+import game.players.SimplePlayer;
+import game.search.Ismcts;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulações por segundo do {@link Ismcts} na posição inicial, incluindo o sorteio das peças adversárias.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IsmctsBenchmark {
+    private static final int PLAYOUTS = 200;
+
+    private BoardView view;
+    private EnemyBeliefs beliefs;
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        Board board = Positions.startingBoard(new SimplePlayer(Positions.PLAYER1), new SimplePlayer(Positions.PLAYER2));
+        view = board.getHiddenView(Positions.PLAYER1);
+        beliefs = new EnemyBeliefs(Positions.PLAYER1, true);
+        random = new SplittableRandom(Positions.SEED);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLAYOUTS)
+    public int playouts() {
+        Ismcts search = new Ismcts(view.copy(), Positions.PLAYER1, Positions.PLAYER2,
+                beliefs.determinizer(Positions.PLAYER2), random);
+        search.run(Long.MAX_VALUE, PLAYOUTS);
+        return search.bestMove();
+    }
+}
@@ -0,0 +1,39 @@
+package game.benchmarks;
+
+import game.Board;
+import game.pieces.PieceAction;
+import game.players.Player;
+import game.players.RaiAraujoPlayer;
+import game.players.SimplePlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempo de decisão de uma jogada na posição inicial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerBenchmark {
+
+    @Param({"SimplePlayer", "RaiAraujoPlayer"})
+    public String player;
+
+    private Player subject;
+    private Board board;
+
+    @Setup
+    public void setup() {
+        subject = player.equals("RaiAraujoPlayer") ? new RaiAraujoPlayer() : new SimplePlayer(Positions.PLAYER1);
+        board = Positions.startingBoard(subject, new SimplePlayer(Positions.PLAYER2));
+    }
+
+    @Benchmark
+    public PieceAction play() {
+        return subject.play(board.getHiddenView(subject.getPlayerName()), null, null);
+    }
+}
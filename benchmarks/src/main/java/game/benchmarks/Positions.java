@@ -0,0 +1,48 @@
+package game.benchmarks;
+
+import game.Board;
+import game.pieces.Piece;
+import game.players.Player;
+import game.players.SimplePlayer;
+
+import java.util.SplittableRandom;
+
+/**
+ * Tabuleiros usados pelos benchmarks.
+ */
+final class Positions {
+    static final String PLAYER1 = "Player1";
+    static final String PLAYER2 = "Player2";
+    static final long SEED = 42;
+
+    private Positions() {
+    }
+
+    /**
+     * Tabuleiro vazio com os dois jogadores definidos.
+     */
+    static Board emptyBoard() {
+        Board board = new Board();
+        board.player1 = new SimplePlayer(PLAYER1);
+        board.player2 = new SimplePlayer(PLAYER2);
+        return board;
+    }
+
+    /**
+     * Tabuleiro com o setup inicial dos dois jogadores, como no início de uma partida.
+     * Os setups usam a semente fixa {@link #SEED}, então toda execução mede a mesma posição.
+     */
+    static Board startingBoard(Player player1, Player player2) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        player1.setRandom(random.split());
+        player2.setRandom(random.split());
+        Board board = new Board();
+        board.player1 = player1;
+        board.player2 = player2;
+        Piece[][] setup1 = player1.setup(board);
+        board.addPlayerSetup(setup1, 1);
+        Piece[][] setup2 = player2.setup(board);
+        board.addPlayerSetup(setup2, 2);
+        return board;
+    }
+}
@@ -0,0 +1,75 @@
+package game.benchmarks;
+
+import game.Board;
+import game.BoardView;
+import game.feedbacks.Feedback;
+import game.pieces.Piece;
+import game.players.SimplePlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo das operações do tabuleiro chamadas a cada jogada.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RulesBenchmark {
+
+    private Board startingBoard;
+    private Piece[][] setup;
+
+    @Setup
+    public void setup() {
+        startingBoard = Positions.startingBoard(new SimplePlayer(Positions.PLAYER1), new SimplePlayer(Positions.PLAYER2));
+        SimplePlayer player = new SimplePlayer(Positions.PLAYER1);
+        player.setRandom(new SplittableRandom(Positions.SEED));
+        setup = player.setup(new Board());
+    }
+
+    @Benchmark
+    public BoardView getHiddenView() {
+        return startingBoard.getHiddenView(Positions.PLAYER1);
+    }
+
+    /**
+     * Visão com todas as casas consultadas, como faz um jogador que percorre o tabuleiro.
+     */
+    @Benchmark
+    public int getHiddenViewScan() {
+        BoardView view = startingBoard.getHiddenView(Positions.PLAYER1);
+        int own = 0;
+        for (int x = 0; x < Board.ROWS; x++) {
+            for (int y = 0; y < Board.COLS; y++) {
+                if (view.isOwn(x, y)) {
+                    own++;
+                }
+            }
+        }
+        return own;
+    }
+
+    @Benchmark
+    public Feedback isGameFinished() {
+        return startingBoard.isGameFinished();
+    }
+
+    @Benchmark
+    public boolean isValidSetup() {
+        return startingBoard.isValidSetup(setup);
+    }
+
+    /**
+     * Setup completo em um tabuleiro novo (validação e posicionamento das 40 peças).
+     */
+    @Benchmark
+    public boolean addPlayerSetup() {
+        Board board = Positions.emptyBoard();
+        return board.addPlayerSetup(setup, 1);
+    }
+}
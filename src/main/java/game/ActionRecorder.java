@@ -0,0 +1,13 @@
+package game;
+
+import game.pieces.PieceAction;
+
+/**
+ * Recebe cada ação entregue ao tabuleiro, antes de ser executada (a peça ainda está na origem), com o
+ * jogador da vez naquele momento ({@link Board#getSideToMove()}). Ações nulas representam uma vez passada.
+ * Registrado com {@link Board#setActionRecorder}.
+ */
+@FunctionalInterface
+public interface ActionRecorder {
+    void record(PieceAction action, int sideToMove);
+}
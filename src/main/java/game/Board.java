@@ -9,24 +9,34 @@ import game.players.Player;
 
 import java.util.*;
 
-import static game.feedbacks.Feedback.convertIntToAlfa;
 
 public class Board {
     private static final int MAX_NUMBER_OF_MOVES = 5000;
 
     private Piece[][] board;
+    private final byte[] cells = new byte[Cells.SIZE];
+    private final int[] movablePieces = new int[2];
+    private long hash;
+    private final long[] viewHashes = new long[2];
+    private int sideToMove = Cells.PLAYER1;
     public static final int ROWS = 10;
     public static final int COLS = 10;
     public Player player1;
-    private final Deque<Piece> lastPiecesPlayedByP1 = new ArrayDeque<>(MAX_CONSECUTIVE_MOVES_SAME_PIECE);
     public Player player2;
-    private final Deque<Piece> lastPiecesPlayedByP2 = new ArrayDeque<>(MAX_CONSECUTIVE_MOVES_SAME_PIECE);
+    // Ids das últimas peças jogadas por cada jogador (índice 0 = mais recente)
+    private final int[][] lastPiecesPlayed = new int[2][MAX_CONSECUTIVE_MOVES_SAME_PIECE];
+    private final int[] lastPiecesPlayedSize = new int[2];
+    private int nextPieceId = 0;
+    private ActionRecorder actionRecorder;
     public int numberMoves = 0;
     public static final Integer MAX_CONSECUTIVE_MOVES_SAME_PIECE = 3;
     public static final String PLAYER1_COLOR_OPEN = "\u001B[32m";
     public static final String PLAYER2_COLOR_OPEN = "\u001B[31m";
     public static final String LAKE_COLOR_OPEN = "\u001B[34m";
     public static final String COLOR_CLOSE = "\u001B[0m";
+    private static final int[] DIRECTIONS_X = {-1, 1, 0, 0};
+    private static final int[] DIRECTIONS_Y = {0, 0, -1, 1};
+    private static final int NO_BLOCKED_PIECE = Integer.MIN_VALUE;
 
     public Board() {
         board = new Piece[ROWS][COLS];
@@ -37,6 +47,16 @@ public class Board {
         player2 = original.player2;
         numberMoves = original.numberMoves;
         board = new Piece[ROWS][COLS];
+        System.arraycopy(original.cells, 0, cells, 0, Cells.SIZE);
+        System.arraycopy(original.movablePieces, 0, movablePieces, 0, movablePieces.length);
+        hash = original.hash;
+        sideToMove = original.sideToMove;
+        System.arraycopy(original.viewHashes, 0, viewHashes, 0, viewHashes.length);
+        for (int owner = Cells.PLAYER1; owner <= Cells.PLAYER2; owner++) {
+            System.arraycopy(original.lastPiecesPlayed[owner], 0, lastPiecesPlayed[owner], 0, MAX_CONSECUTIVE_MOVES_SAME_PIECE);
+            lastPiecesPlayedSize[owner] = original.lastPiecesPlayedSize[owner];
+        }
+        nextPieceId = original.nextPieceId;
         for (int i = 0; i < ROWS; i++) {
             for (int j = 0; j < COLS; j++) {
                 Piece originalPiece = original.getPiece(i, j);
@@ -52,13 +72,107 @@ public class Board {
         return board[x][y];
     }
 
+    /**
+     * Reserva o próximo id de peça deste tabuleiro (0..79 em um jogo normal). Chamado pelos construtores das peças.
+     */
+    public int allocatePieceId() {
+        return nextPieceId++;
+    }
+
+    /**
+     * Retorna o código compacto da casa (ver {@link Cells}), ou {@link Cells#EMPTY} fora do tabuleiro.
+     */
+    public byte getCell(int x, int y) {
+        if (x < 0 || x >= ROWS || y < 0 || y >= COLS) {
+            return Cells.EMPTY;
+        }
+        return cells[Cells.index(x, y)];
+    }
+
+    /**
+     * Todas as alterações do tabuleiro passam por aqui (inclusive os combates em {@code Piece.fight}),
+     * então é onde o estado compacto e a contagem de peças móveis são mantidos. Peças criadas sem
+     * tabuleiro recebem aqui um id deste tabuleiro (ver {@link Piece#ensureId}).
+     */
     public void setPiece(int x, int y, Piece piece) {
+        byte cell = piece == null ? Cells.EMPTY : Cells.encode(ownerOf(piece.getPlayer()), piece.getType());
+        int index = Cells.index(x, y);
+        byte previous = cells[index];
+        if (Cells.isMovable(previous)) {
+            movablePieces[Cells.owner(previous)]--;
+        }
+
         board[x][y] = piece;
+        cells[index] = cell;
+        hash ^= Zobrist.key(index, previous) ^ Zobrist.key(index, cell);
+        for (int viewer = Cells.PLAYER1; viewer <= Cells.PLAYER2; viewer++) {
+            viewHashes[viewer] ^= Zobrist.key(index, Cells.mask(previous, viewer)) ^ Zobrist.key(index, Cells.mask(cell, viewer));
+        }
+        if (Cells.isMovable(cell)) {
+            movablePieces[Cells.owner(cell)]++;
+        }
+
         if (piece != null) {
+            piece.ensureId(this);
             piece.setPosition(x, y);
         }
     }
 
+    /**
+     * Hash Zobrist de 64 bits da posição: tipo e dono das peças em cada casa e o jogador da vez
+     * (ver {@link #getSideToMove()}). Atualizado incrementalmente, sem percorrer o tabuleiro.
+     */
+    public long hash() {
+        return hash;
+    }
+
+    /**
+     * Jogador da vez, {@link Cells#PLAYER1} ou {@link Cells#PLAYER2}. Depois de cada jogada passa a ser o
+     * adversário de quem moveu; jogadas sem peça (vez passada) apenas alternam. Começa com o Player1.
+     */
+    public int getSideToMove() {
+        return sideToMove;
+    }
+
+    /**
+     * Define quem joga a seguir (ex.: quem abre a partida), atualizando os hashes.
+     */
+    public void setSideToMove(int owner) {
+        if (owner != sideToMove) {
+            toggleSideToMove();
+        }
+    }
+
+    /**
+     * Hash da posição como vista pelo jogador {@code owner}: as peças adversárias entram como desconhecidas,
+     * então o valor não revela informação oculta. É o hash exposto por {@link BoardView#hash()}.
+     */
+    public long viewHash(int owner) {
+        return viewHashes[owner];
+    }
+
+    /**
+     * Quantidade de peças móveis (exceto mina terrestre e prisioneiro) do jogador {@link Cells#PLAYER1} ou {@link Cells#PLAYER2}.
+     */
+    public int getMovablePieces(int owner) {
+        return movablePieces[owner];
+    }
+
+    /**
+     * Identifica o dono de uma peça pelo nome do jogador: {@link Cells#PLAYER1} ou {@link Cells#PLAYER2}.
+     *
+     * @throws IllegalArgumentException se o nome não for o de nenhum dos jogadores do tabuleiro.
+     */
+    public int ownerOf(String player) {
+        if (player1 != null && player1.getPlayerName().equals(player)) {
+            return Cells.PLAYER1;
+        }
+        if (player2 != null && player2.getPlayerName().equals(player)) {
+            return Cells.PLAYER2;
+        }
+        throw new IllegalArgumentException("Jogador desconhecido no tabuleiro: " + player);
+    }
+
     public static boolean isValidPosition(int x, int y) {
         return x >= 0 && x < 10 && y >= 0 && y < 10 && !Board.isLake(x, y);
     }
@@ -69,9 +183,16 @@ public class Board {
     }
 
     public boolean isValidSetup(Piece[][] playerSetup) {
+        return setupError(playerSetup) == null;
+    }
+
+    /**
+     * Motivo de o setup ser inválido, ou null se ele for válido. O tabuleiro não imprime nada; quem
+     * quiser mostrar o motivo usa a própria saída (ex.: a {@code GameOutput} do {@link Game}).
+     */
+    public String setupError(Piece[][] playerSetup) {
         if (playerSetup.length != 4 || playerSetup[0].length != 10) {
-            System.out.println("Erro: Matriz com peças de tamanho incorreto. Esperado 4x10, encontrado " + playerSetup.length +"x"+playerSetup[0].length);
-            return false;
+            return "Erro: Matriz com peças de tamanho incorreto. Esperado 4x10, encontrado " + playerSetup.length +"x"+playerSetup[0].length;
         }
 
         Map<String, Integer> actualCounts = new HashMap<>();
@@ -92,12 +213,11 @@ public class Board {
             int actual = actualCounts.getOrDefault(code, 0);
 
             if (actual != expected) {
-                System.out.println("Erro: Esperado " + expected + " peças de " + code + ", mas encontrado " + actual);
-                return false;
+                return "Erro: Esperado " + expected + " peças de " + code + ", mas encontrado " + actual;
             }
         }
 
-        return true;
+        return null;
     }
 
     /**
@@ -108,6 +228,14 @@ public class Board {
             return false;
         }
 
+        placeSetup(playerSetup, player);
+        return true;
+    }
+
+    /**
+     * Posiciona um setup já validado com {@link #setupError}.
+     */
+    void placeSetup(Piece[][] playerSetup, int player) {
         for (int i = 0; i < 4; i++) {
             for (int j = 0; j < 10; j++) {
                 int row = (player == 1) ? (3 - i) : (i + 6);
@@ -115,8 +243,6 @@ public class Board {
                 this.setPiece(row, col, playerSetup[i][j]);
             }
         }
-
-        return true;
     }
 
     /**
@@ -137,12 +263,12 @@ public class Board {
             for (int j = 0; j < COLS; j++) {
                 if (Board.isLake(i, j)) {
                     sb.append(String.format("[%s%-2s%s]", LAKE_COLOR_OPEN, "XX", COLOR_CLOSE));
-                } else if (board[i][j] == null) {
+                } else if (Cells.isEmpty(cells[Cells.index(i, j)])) {
                     sb.append(String.format("[%-2s]", " "));
                 } else {
-                    Piece piece = board[i][j];
-                    String playerColor = piece.getPlayer() != null && piece.getPlayer().equals(player1.getPlayerName()) ? PLAYER1_COLOR_OPEN : PLAYER2_COLOR_OPEN;
-                    sb.append(String.format("[%s%-2s%s]", playerColor, piece.getRepresentation(), COLOR_CLOSE));
+                    byte cell = cells[Cells.index(i, j)];
+                    String playerColor = Cells.owner(cell) == Cells.PLAYER1 ? PLAYER1_COLOR_OPEN : PLAYER2_COLOR_OPEN;
+                    sb.append(String.format("[%s%-2s%s]", playerColor, Cells.representation(cell), COLOR_CLOSE));
                 }
             }
             sb.append("\n");
@@ -150,15 +276,24 @@ public class Board {
         return sb.toString();
     }
 
-    public final Board getHiddenView(String player) {
-        Board boardCopy = this.deepCopy();
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
-                Piece piece = boardCopy.getPiece(i, j);
+    /**
+     * Retorna a visão do jogador sobre o tabuleiro, com as peças adversárias mascaradas.
+     * A visão não copia o tabuleiro; veja {@link BoardView#copy()} para obter uma cópia.
+     */
+    public final BoardView getHiddenView(String player) {
+        return new BoardView(this, player);
+    }
 
-                if (piece != null && !piece.getPlayer().equals(player)) {
-                    boardCopy.setPiece(i, j, new OpponentPiece(this));
-                }
+    final Board hiddenCopy(String player) {
+        Board boardCopy = this.deepCopy();
+        int enemy = 1 - ownerOf(player);
+        boardCopy.lastPiecesPlayedSize[enemy] = 0;
+        Player enemyPlayer = enemy == Cells.PLAYER1 ? player1 : player2;
+        String enemyName = enemyPlayer != null ? enemyPlayer.getPlayerName() : null;
+        for (int i = 0; i < Cells.SIZE; i++) {
+            byte cell = cells[i];
+            if (!Cells.isEmpty(cell) && Cells.owner(cell) == enemy) {
+                boardCopy.setPiece(Cells.row(i), Cells.col(i), new OpponentPiece(enemyName, boardCopy));
             }
         }
         return boardCopy;
@@ -188,25 +323,8 @@ public class Board {
     }
 
     private Player somePlayerHasMove() {
-        boolean player1HasMovablePiece = false;
-        boolean player2HasMovablePiece = false;
-
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
-                if (board[i][j] != null) {
-                    Piece p = board[i][j];
-                    if (p.getPlayer().equals(player1.getPlayerName())) {
-                        if (isMovablePiece(p)) {
-                            player1HasMovablePiece = true;
-                        }
-                    } else if (p.getPlayer().equals(player2.getPlayerName())) {
-                        if (isMovablePiece(p)) {
-                            player2HasMovablePiece = true;
-                        }
-                    }
-                }
-            }
-        }
+        boolean player1HasMovablePiece = movablePieces[Cells.PLAYER1] > 0;
+        boolean player2HasMovablePiece = movablePieces[Cells.PLAYER2] > 0;
 
         if (player1HasMovablePiece && player2HasMovablePiece) {
             return null;
@@ -217,23 +335,46 @@ public class Board {
         }
     }
 
-    private boolean isMovablePiece(Piece piece) {
-        if (piece == null) {
-            return false;
-        }
+    /**
+     * Registra as ações executadas neste tabuleiro (ex.: gravação de replay); null remove o registro.
+     * Cópias do tabuleiro não herdam o registro, então simulações dos jogadores não são gravadas.
+     */
+    public void setActionRecorder(ActionRecorder actionRecorder) {
+        this.actionRecorder = actionRecorder;
+    }
 
-        return !piece.getRepresentation().equals("M") && !piece.getRepresentation().equals("PS");
+    /**
+     * Passa a vez sem mover nenhuma peça (ex.: tempo esgotado); conta como jogada.
+     */
+    public Feedback passTurn(InvalidMoveFeedback feedback) {
+        if (actionRecorder != null) {
+            actionRecorder.record(null, sideToMove);
+        }
+        numberMoves++;
+        toggleSideToMove();
+        return feedback;
     }
 
     public Feedback executeAction(PieceAction action) {
+        if (actionRecorder != null) {
+            actionRecorder.record(action, sideToMove);
+        }
         numberMoves++;
 
         if (action == null || action.getPiece() == null) {
+            toggleSideToMove();
             return new InvalidMoveFeedback("Não há peça selecionada");
         }
 
         try {
             Piece piece = action.getPiece();
+            byte cell = getCell(piece.getPosX(), piece.getPosY());
+            if (Cells.isEmpty(cell)) {
+                toggleSideToMove();
+                return InvalidMoveFeedback.noPieceAt(piece.getPosX(), piece.getPosY());
+            }
+            // Quem joga a seguir vem do dono da peça, não da paridade das jogadas
+            setSideToMove(1 - Cells.owner(cell));
             Piece pieceOriginal = board[piece.getPosX()][piece.getPosY()];
             int newPosX = action.getNewPosX();
             int newPosY = action.getNewPosY();
@@ -242,26 +383,184 @@ public class Board {
                 return pieceOriginal.move(newPosX, newPosY, this);
             }
 
-            return new InvalidMoveFeedback(String.format("%s moveu a mesma peça mais de 3 vezes, %s em [%s, %d]", pieceOriginal.getPlayer(), pieceOriginal.getRepresentation(), convertIntToAlfa(pieceOriginal.getPosX()), pieceOriginal.getPosY()));
+            return InvalidMoveFeedback.samePieceRepeated(pieceOriginal);
         } catch (Exception e) {
             return new InvalidMoveFeedback(e.getMessage());
         }
     }
 
+    /**
+     * Preenche {@code out} com as jogadas legais do jogador, codificadas por {@link Moves}, e retorna quantas são.
+     * Respeita lagos, peças imóveis, o deslocamento em linha reta do Soldado (que só ataca a casa vizinha),
+     * casas ocupadas por peças do próprio jogador e o limite de {@link #MAX_CONSECUTIVE_MOVES_SAME_PIECE}.
+     * Peças adversárias desconhecidas (em cópias mascaradas) se movem uma casa. Não aloca memória.
+     *
+     * @param out buffer com pelo menos {@link Moves#MAX_MOVES} posições.
+     */
+    public int generateMoves(String player, int[] out) {
+        int owner = ownerOf(player);
+        int blocked = blockedPieceId(owner);
+        int soldier = QuantityPerPiece.SOLDIER.ordinal() + 1;
+        int count = 0;
+
+        for (int from = 0; from < Cells.SIZE; from++) {
+            byte cell = cells[from];
+            if (!Cells.isMovable(cell) || Cells.owner(cell) != owner) {
+                continue;
+            }
+            int x = Cells.row(from);
+            int y = Cells.col(from);
+            if (blocked != NO_BLOCKED_PIECE && board[x][y].getId() == blocked) {
+                continue;
+            }
+
+            boolean slides = Cells.typeCode(cell) == soldier;
+            for (int d = 0; d < 4; d++) {
+                int dx = DIRECTIONS_X[d];
+                int dy = DIRECTIONS_Y[d];
+                int nx = x + dx;
+                int ny = y + dy;
+                while (isValidPosition(nx, ny)) {
+                    byte target = cells[Cells.index(nx, ny)];
+                    if (!Cells.isEmpty(target)) {
+                        boolean adjacent = nx == x + dx && ny == y + dy;
+                        if (adjacent && Cells.owner(target) != owner) {
+                            out[count++] = Moves.encode(from, Cells.index(nx, ny));
+                        }
+                        break;
+                    }
+                    out[count++] = Moves.encode(from, Cells.index(nx, ny));
+                    if (!slides) {
+                        break;
+                    }
+                    nx += dx;
+                    ny += dy;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Converte uma jogada codificada por {@link Moves} em uma {@link PieceAction} sobre este tabuleiro.
+     */
+    public PieceAction toAction(int move) {
+        int from = Moves.from(move);
+        int to = Moves.to(move);
+        return new PieceAction(board[Cells.row(from)][Cells.col(from)], Cells.row(to), Cells.col(to));
+    }
+
+    /**
+     * Id da peça que não pode jogar de novo por ter sido a única movida nas últimas jogadas do jogador.
+     */
+    private int blockedPieceId(int owner) {
+        if (lastPiecesPlayedSize[owner] < MAX_CONSECUTIVE_MOVES_SAME_PIECE) {
+            return NO_BLOCKED_PIECE;
+        }
+        int[] history = lastPiecesPlayed[owner];
+        for (int i = 1; i < MAX_CONSECUTIVE_MOVES_SAME_PIECE; i++) {
+            if (history[i] != history[0]) {
+                return NO_BLOCKED_PIECE;
+            }
+        }
+        return history[0];
+    }
+
+    /**
+     * Executa a jogada como {@link #executeAction} e retorna um registro para desfazê-la com {@link #unmakeMove}.
+     * Permite que jogadores explorem jogadas futuras sem copiar o tabuleiro. As jogadas devem ser
+     * desfeitas na ordem inversa em que foram feitas.
+     */
+    public MoveUndo makeMove(PieceAction action) {
+        int previousNumberMoves = numberMoves;
+        Piece piece = action != null ? action.getPiece() : null;
+        if (piece == null) {
+            return new MoveUndo(-1, -1, -1, -1, null, null, -1, null, 0, previousNumberMoves, sideToMove, executeAction(action));
+        }
+
+        int fromX = piece.getPosX();
+        int fromY = piece.getPosY();
+        int toX = action.getNewPosX();
+        int toY = action.getNewPosY();
+        Piece fromPiece = getPiece(fromX, fromY);
+        Piece toPiece = getPiece(toX, toY);
+
+        int historyOwner = -1;
+        int[] history = null;
+        int historySize = 0;
+        if (fromPiece != null) {
+            historyOwner = ownerOf(fromPiece.getPlayer());
+            history = lastPiecesPlayed[historyOwner].clone();
+            historySize = lastPiecesPlayedSize[historyOwner];
+        }
+
+        int previousSideToMove = sideToMove;
+        Feedback feedback = executeAction(action);
+        return new MoveUndo(fromX, fromY, toX, toY, fromPiece, toPiece, historyOwner, history, historySize,
+                previousNumberMoves, previousSideToMove, feedback);
+    }
+
+    /**
+     * Restaura exatamente o estado anterior à jogada registrada em {@code undo}.
+     */
+    public void unmakeMove(MoveUndo undo) {
+        if (isInside(undo.toX, undo.toY)) {
+            setPiece(undo.toX, undo.toY, undo.toPiece);
+        }
+        if (isInside(undo.fromX, undo.fromY)) {
+            setPiece(undo.fromX, undo.fromY, undo.fromPiece);
+        }
+
+        if (undo.history != null) {
+            System.arraycopy(undo.history, 0, lastPiecesPlayed[undo.historyOwner], 0, MAX_CONSECUTIVE_MOVES_SAME_PIECE);
+            lastPiecesPlayedSize[undo.historyOwner] = undo.historySize;
+        }
+        numberMoves = undo.numberMoves;
+        setSideToMove(undo.sideToMove);
+    }
+
+    private void toggleSideToMove() {
+        sideToMove = 1 - sideToMove;
+        hash ^= Zobrist.SIDE_TO_MOVE;
+        viewHashes[Cells.PLAYER1] ^= Zobrist.SIDE_TO_MOVE;
+        viewHashes[Cells.PLAYER2] ^= Zobrist.SIDE_TO_MOVE;
+    }
+
+    private static boolean isInside(int x, int y) {
+        return x >= 0 && x < ROWS && y >= 0 && y < COLS;
+    }
+
+    /**
+     * Copia para {@code out} os ids das últimas peças jogadas pelo jogador, da mais recente para a mais antiga,
+     * e retorna quantos são (até {@link #MAX_CONSECUTIVE_MOVES_SAME_PIECE}). Junto com
+     * {@link #addLastPiecesPlayed} permite salvar e restaurar o estado da regra de repetição.
+     */
+    public int getLastPiecesPlayed(int owner, int[] out) {
+        int size = lastPiecesPlayedSize[owner];
+        System.arraycopy(lastPiecesPlayed[owner], 0, out, 0, size);
+        return size;
+    }
+
     public boolean addLastPiecesPlayed(Piece piece) {
-        var lastPiecesPlayed = player1.getPlayerName().equals(piece.getPlayer()) ? lastPiecesPlayedByP1 : lastPiecesPlayedByP2;
+        int owner = ownerOf(piece.getPlayer());
+        int[] history = lastPiecesPlayed[owner];
+        int size = lastPiecesPlayedSize[owner];
+        int id = piece.getId();
 
         var result = true;
-        if (lastPiecesPlayed.size() == MAX_CONSECUTIVE_MOVES_SAME_PIECE) {
-            if (lastPiecesPlayed.stream().allMatch(p -> p.equals(piece))) {
-                result = false;
+        if (size == MAX_CONSECUTIVE_MOVES_SAME_PIECE) {
+            result = false;
+            for (int i = 0; i < size; i++) {
+                if (history[i] != id) {
+                    result = true;
+                    break;
+                }
             }
         }
 
-        if (lastPiecesPlayed.size() == MAX_CONSECUTIVE_MOVES_SAME_PIECE) {
-            lastPiecesPlayed.removeLast();
-        }
-        lastPiecesPlayed.push(piece);
+        System.arraycopy(history, 0, history, 1, Math.min(size, MAX_CONSECUTIVE_MOVES_SAME_PIECE - 1));
+        history[0] = id;
+        lastPiecesPlayedSize[owner] = Math.min(size + 1, MAX_CONSECUTIVE_MOVES_SAME_PIECE);
 
         return result;
     }
@@ -0,0 +1,128 @@
+package game;
+
+import game.pieces.OpponentPiece;
+import game.pieces.Piece;
+import game.pieces.PieceAction;
+
+/**
+ * Visão somente leitura do tabuleiro do ponto de vista de um jogador.
+ * <p>
+ * Não copia o tabuleiro: as peças adversárias são mascaradas sob demanda, apenas nas casas consultadas.
+ * As peças retornadas por {@link #getPiece(int, int)} são cópias (as do próprio jogador mantêm o id),
+ * então alterá-las não afeta o jogo. A cópia do Soldado valida o próprio deslocamento pelas casas desta
+ * visão. A visão reflete o tabuleiro vivo e só é válida durante a chamada de {@code Player.play};
+ * para guardar ou simular jogadas use {@link #copy()}.
+ */
+public final class BoardView {
+    private final Board board;
+    private final String player;
+    private final int owner;
+    private Piece[] pieces;
+
+    BoardView(Board board, String player) {
+        this.board = board;
+        this.player = player;
+        this.owner = board.ownerOf(player);
+    }
+
+    public String getPlayerName() {
+        return player;
+    }
+
+    /**
+     * Nome do adversário, ou null se ele ainda não foi definido no tabuleiro.
+     */
+    public String getOpponentName() {
+        var opponent = owner == Cells.PLAYER1 ? board.player2 : board.player1;
+        return opponent != null ? opponent.getPlayerName() : null;
+    }
+
+    /**
+     * Indica se quem observa é o Player1 (peças iniciando nas fileiras 0..3).
+     */
+    public boolean isPlayer1() {
+        return owner == Cells.PLAYER1;
+    }
+
+    public int getNumberMoves() {
+        return board.numberMoves;
+    }
+
+    /**
+     * Código compacto da casa (ver {@link Cells}) com o tipo das peças adversárias ocultado.
+     */
+    public byte getCell(int x, int y) {
+        return Cells.mask(board.getCell(x, y), owner);
+    }
+
+    /**
+     * Hash Zobrist da posição vista por este jogador (peças adversárias sem tipo).
+     * Mesma visão e mesmo jogador da vez resultam no mesmo hash.
+     */
+    public long hash() {
+        return board.viewHash(owner);
+    }
+
+    public boolean isEmpty(int x, int y) {
+        return Cells.isEmpty(board.getCell(x, y));
+    }
+
+    public boolean isOwn(int x, int y) {
+        byte cell = board.getCell(x, y);
+        return !Cells.isEmpty(cell) && Cells.owner(cell) == owner;
+    }
+
+    public boolean isEnemy(int x, int y) {
+        byte cell = board.getCell(x, y);
+        return !Cells.isEmpty(cell) && Cells.owner(cell) != owner;
+    }
+
+    /**
+     * Retorna a peça na posição: uma cópia se for do jogador, uma {@link OpponentPiece} se for do adversário.
+     */
+    public Piece getPiece(int x, int y) {
+        byte cell = board.getCell(x, y);
+        if (Cells.isEmpty(cell)) {
+            return null;
+        }
+
+        if (pieces == null) {
+            pieces = new Piece[Cells.SIZE];
+        }
+        int index = Cells.index(x, y);
+        Piece piece = pieces[index];
+        if (piece == null) {
+            if (Cells.owner(cell) == owner) {
+                piece = board.getPiece(x, y).copyForView(this);
+            } else {
+                piece = new OpponentPiece(getOpponentName(), null);
+                piece.setPosition(x, y);
+            }
+            pieces[index] = piece;
+        }
+        return piece;
+    }
+
+    /**
+     * Preenche {@code out} com as jogadas legais deste jogador; veja {@link Board#generateMoves}.
+     */
+    public int generateMoves(int[] out) {
+        return board.generateMoves(player, out);
+    }
+
+    /**
+     * Converte uma jogada codificada por {@link Moves} em uma ação com a peça (cópia) desta visão.
+     */
+    public PieceAction toAction(int move) {
+        int from = Moves.from(move);
+        int to = Moves.to(move);
+        return new PieceAction(getPiece(Cells.row(from), Cells.col(from)), Cells.row(to), Cells.col(to));
+    }
+
+    /**
+     * Cria uma cópia independente do tabuleiro com as peças adversárias mascaradas.
+     */
+    public Board copy() {
+        return board.hiddenCopy(player);
+    }
+}
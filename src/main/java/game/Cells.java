@@ -0,0 +1,94 @@
+package game;
+
+import game.pieces.QuantityPerPiece;
+
+/**
+ * Codificação compacta de uma casa do tabuleiro em um único byte.
+ * <p>
+ * Os 4 bits menos significativos guardam o tipo da peça (ordinal de {@link QuantityPerPiece} + 1,
+ * ou {@link #UNKNOWN} para peças adversárias mascaradas) e o bit 4 guarda o dono
+ * ({@link #PLAYER1} ou {@link #PLAYER2}). O valor {@link #EMPTY} representa uma casa vazia.
+ * As casas são indexadas de 0 a 99 por {@code x * Board.COLS + y}.
+ */
+public final class Cells {
+    public static final byte EMPTY = 0;
+    public static final int PLAYER1 = 0;
+    public static final int PLAYER2 = 1;
+    public static final int UNKNOWN = 13;
+    public static final int SIZE = Board.ROWS * Board.COLS;
+
+    private static final int TYPE_MASK = 0x0F;
+    private static final int OWNER_SHIFT = 4;
+    private static final QuantityPerPiece[] TYPES = QuantityPerPiece.values();
+
+    private Cells() {
+    }
+
+    public static byte encode(int owner, QuantityPerPiece type) {
+        return encode(owner, type == null ? UNKNOWN : type.ordinal() + 1);
+    }
+
+    public static byte encode(int owner, int typeCode) {
+        return (byte) ((owner << OWNER_SHIFT) | typeCode);
+    }
+
+    public static int typeCode(byte cell) {
+        return cell & TYPE_MASK;
+    }
+
+    public static int owner(byte cell) {
+        return (cell >> OWNER_SHIFT) & 1;
+    }
+
+    /**
+     * Retorna a casa como vista por {@code viewer}: peças do adversário perdem o tipo ({@link #UNKNOWN}).
+     */
+    public static byte mask(byte cell, int viewer) {
+        if (cell == EMPTY || owner(cell) == viewer) {
+            return cell;
+        }
+        return encode(owner(cell), UNKNOWN);
+    }
+
+    public static boolean isEmpty(byte cell) {
+        return cell == EMPTY;
+    }
+
+    /**
+     * Retorna o tipo da peça na casa ou null quando a casa está vazia ou a peça é desconhecida.
+     */
+    public static QuantityPerPiece type(byte cell) {
+        int code = typeCode(cell);
+        return code == EMPTY || code == UNKNOWN ? null : TYPES[code - 1];
+    }
+
+    /**
+     * Mina terrestre e prisioneiro são as únicas peças imóveis; peças desconhecidas contam como móveis.
+     */
+    public static boolean isMovable(byte cell) {
+        int code = typeCode(cell);
+        return code != EMPTY
+                && code != QuantityPerPiece.LAND_MINE.ordinal() + 1
+                && code != QuantityPerPiece.PRISONER.ordinal() + 1;
+    }
+
+    public static String representation(byte cell) {
+        int code = typeCode(cell);
+        if (code == EMPTY) {
+            return " ";
+        }
+        return code == UNKNOWN ? "OP" : TYPES[code - 1].getCode();
+    }
+
+    public static int index(int x, int y) {
+        return x * Board.COLS + y;
+    }
+
+    public static int row(int index) {
+        return index / Board.COLS;
+    }
+
+    public static int col(int index) {
+        return index % Board.COLS;
+    }
+}
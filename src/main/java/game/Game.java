@@ -2,21 +2,63 @@ package game;
 
 import game.feedbacks.ConvertFeedbackToEnemy;
 import game.feedbacks.Feedback;
+import game.feedbacks.InvalidMoveFeedback;
+import game.feedbacks.PlayerWithoutPiecesFeedback;
 import game.feedbacks.PrisonerFeedback;
+import game.metrics.GameMetrics;
+import game.output.GameOutput;
 import game.pieces.Piece;
 import game.pieces.PieceAction;
+import game.replay.GameRecording;
+import game.replay.ReplayWriter;
 import game.players.Player;
 import game.players.SimplePlayer;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class Game {
-    private final Board board;
+    private Board board;
     private final Player player1;
     private final Player player2;
+    private final GameOutput output;
+    private final TimeControl timeControl;
     private int round = 0;
 
+    // Relógio e tempo de jogada de cada jogador, indexados por Cells.PLAYER1/PLAYER2
+    private final long[] thinkingNanos = new long[2];
+    private final long[] remainingNanos = new long[2];
+    private final int[] timeouts = new int[2];
+    private final Semaphore[] idle = {new Semaphore(1), new Semaphore(1)};
+    private final Thread[] thinking = new Thread[2];
+    private ReplayWriter replayWriter;
+    private SplittableRandom random = new SplittableRandom();
+    private GameMetrics metrics;
+    private GameRecording recording;
+
     public Game(Player player1, Player player2) {
+        this(player1, player2, GameOutput.console());
+    }
+
+    /**
+     * @param output destino das mensagens da partida; {@link GameOutput#none()} joga sem montar nenhuma.
+     */
+    public Game(Player player1, Player player2, GameOutput output) {
+        this(player1, player2, output, null);
+    }
+
+    /**
+     * @param timeControl relógio dos jogadores, ou null para jogar sem limite de tempo.
+     *                    Com relógio, {@code play} roda em outra thread; o tabuleiro só é copiado
+     *                    quando uma jogada estoura o prazo e continua rodando.
+     */
+    public Game(Player player1, Player player2, GameOutput output, TimeControl timeControl) {
+        this.output = output;
+        this.timeControl = timeControl;
         board = new Board();
         board.player1 = player1;
         board.player2 = player2;
@@ -32,91 +74,335 @@ public class Game {
 
     /**
      * Inicia o jogo.
+     * <p>
+     * Se a thread for interrompida, a partida para antes da próxima jogada e retorna
+     * {@link GameResult.Reason#ABORTED}, mantendo o estado de interrupção.
+     * @return vencedor, motivo do fim, número de jogadas e tempo de cada jogador.
      */
-    public void start() {
-        Piece[][] player1Setup = player1.setup(this.board);
-        var player1SetupIsValid = this.board.addPlayerSetup(player1Setup, 1);
-        Piece[][] player2Setup = player2.setup(this.board);
-        var player2SetupIsValid = this.board.addPlayerSetup(player2Setup, 2);
+    public GameResult start() {
+        GameResult result = timeControl == null ? play() : playWithClock();
+        if (recording != null) {
+            board.setActionRecorder(null);
+            recording.finish(result);
+        }
+        return result;
+    }
+
+    /**
+     * Fixa a semente da partida: quem começa e os geradores entregues aos jogadores derivam dela,
+     * então a mesma semente com os mesmos jogadores reproduz a mesma partida (sem relógio; com
+     * {@link TimeControl} os estouros de tempo dependem da máquina). Deve ser chamado antes de {@link #start()}.
+     */
+    public void setSeed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Mede a latência (parede e CPU) e os bytes alocados em setup, play, executeAction e na visão do
+     * tabuleiro de cada jogador; o resumo sai em {@link GameResult#metrics()}. Desligado por padrão.
+     * Com {@link TimeControl}, as jogadas medidas rodam em threads de plataforma, que expõem CPU e alocação.
+     */
+    public void setMetricsEnabled(boolean enabled) {
+        this.metrics = enabled ? new GameMetrics() : null;
+    }
+
+    /**
+     * Grava a partida no arquivo de replays; deve ser chamado antes de {@link #start()}.
+     */
+    public void setReplayWriter(ReplayWriter replayWriter) {
+        this.replayWriter = replayWriter;
+    }
+
+    private GameResult playWithClock() {
+        long base = timeControl.base().toNanos();
+        remainingNanos[Cells.PLAYER1] = base;
+        remainingNanos[Cells.PLAYER2] = base;
+        try {
+            return play();
+        } finally {
+            // Não espera jogadas atrasadas: elas são interrompidas e descartadas
+            for (Thread thread : thinking) {
+                if (thread != null) {
+                    thread.interrupt();
+                }
+            }
+        }
+    }
+
+    private GameResult play() {
+        player1.setRandom(random.split());
+        player2.setRandom(random.split());
+
+        Piece[][] player1Setup = setup(player1, Cells.PLAYER1);
+        var player1SetupIsValid = addPlayerSetup(player1Setup, 1);
+        Piece[][] player2Setup = setup(player2, Cells.PLAYER2);
+        var player2SetupIsValid = addPlayerSetup(player2Setup, 2);
+
+        if (replayWriter != null) {
+            recording = replayWriter.startGame(board);
+            board.setActionRecorder(recording);
+        }
 
         if (!player1SetupIsValid && !player2SetupIsValid) {
-            System.out.println("Jogo concluído por setup inválido de ambos jogadores!");
-            System.out.println("Jogo empatado!");
-            return;
+            print("Jogo concluído por setup inválido de ambos jogadores!");
+            print("Jogo empatado!");
+            return result(null, GameResult.Reason.INVALID_SETUP);
         } else if (!player1SetupIsValid) {
-            System.out.println("Jogo concluído por setup inválido!");
-            System.out.println("Jogador " + player2.getPlayerName() + " venceu o jogo!");
-            return;
+            print("Jogo concluído por setup inválido!");
+            print("Jogador " + player2.getPlayerName() + " venceu o jogo!");
+            return result(player2.getPlayerName(), GameResult.Reason.INVALID_SETUP);
         } else if (!player2SetupIsValid) {
-            System.out.println("Jogo concluído por setup inválido!");
-            System.out.println("Jogador " + player1.getPlayerName() + " venceu o jogo!");
-            return;
+            print("Jogo concluído por setup inválido!");
+            print("Jogador " + player1.getPlayerName() + " venceu o jogo!");
+            return result(player1.getPlayerName(), GameResult.Reason.INVALID_SETUP);
         }
 
-        System.out.println("Estado inicial do tabuleiro:");
-        System.out.println(board.getFeedback());
+        if (output.isEnabled()) {
+            print("Estado inicial do tabuleiro:");
+            print(board.getFeedback());
+        }
 
-        Random rand = new Random();
-        boolean actualPlayer = rand.nextBoolean();
+        boolean actualPlayer = random.nextBoolean();
+        board.setSideToMove(actualPlayer ? Cells.PLAYER1 : Cells.PLAYER2);
 
         Feedback roundFeedback = null;
         Feedback lastPlayer1Feedback = null;
         Feedback lastPlayer2Feedback = null;
 
-        game:
         while (true) {
-            System.out.println("Rodada " + this.getRound() + ":");
+            if (output.isEnabled()) {
+                print("Rodada " + this.getRound() + ":");
+            }
 
             for (int i = 0; i < 2; i++) {
+                if (Thread.currentThread().isInterrupted()) {
+                    print("Jogo interrompido!");
+                    return result(null, GameResult.Reason.ABORTED);
+                }
+
                 if (actualPlayer) {
                     // Jogada do Player1
-                    PieceAction action = player1.play(
-                            board.getHiddenView(player1.getPlayerName()),
+                    roundFeedback = playTurn(player1, Cells.PLAYER1,
                             lastPlayer1Feedback,
                             ConvertFeedbackToEnemy.convert(lastPlayer2Feedback)
                     );
-                    roundFeedback = board.executeAction(action);
                     lastPlayer1Feedback  = roundFeedback;
-                    System.out.println("Player1: " + roundFeedback.getMessage());
-                    System.out.println(board.getFeedback());
+                    if (output.isEnabled()) {
+                        print("Player1: " + roundFeedback.getMessage());
+                        print(board.getFeedback());
+                    }
                 } else {
                     // Jogada do Player2
-                    PieceAction action = player2.play(
-                            board.getHiddenView(player2.getPlayerName()),
+                    roundFeedback = playTurn(player2, Cells.PLAYER2,
                             lastPlayer2Feedback,
                             ConvertFeedbackToEnemy.convert(lastPlayer1Feedback)
                     );
-                    roundFeedback = board.executeAction(action);
                     lastPlayer2Feedback  = roundFeedback;
-                    System.out.println("Player2: " + roundFeedback.getMessage());
-                    System.out.println(board.getFeedback());
+                    if (output.isEnabled()) {
+                        print("Player2: " + roundFeedback.getMessage());
+                        print(board.getFeedback());
+                    }
                 }
 
                 if (roundFeedback instanceof PrisonerFeedback) {
                     String playerName = actualPlayer ? player1.getPlayerName() : player2.getPlayerName();
 
-                    System.out.println("Jogo concluído com sucesso!!!");
-                    System.out.println("Parabéns ao jogador " + playerName + "!!!");
-                    break game;
+                    print("Jogo concluído com sucesso!!!");
+                    print("Parabéns ao jogador " + playerName + "!!!");
+                    return result(playerName, GameResult.Reason.PRISONER_FOUND);
+                }
+
+                int seat = actualPlayer ? Cells.PLAYER1 : Cells.PLAYER2;
+                if (timeControl != null && timeouts[seat] >= timeControl.maxTimeouts()) {
+                    Player loser = actualPlayer ? player1 : player2;
+                    Player winner = actualPlayer ? player2 : player1;
+
+                    print("Jogo concluído por tempo esgotado de " + loser.getPlayerName() + "!");
+                    print("Jogador " + winner.getPlayerName() + " venceu o jogo!");
+                    return result(winner.getPlayerName(), GameResult.Reason.TIMEOUT);
                 }
 
                 actualPlayer = !actualPlayer;
                 Feedback actualState = board.isGameFinished();
                 if (actualState != null){
-                    System.out.println(actualState.getMessage());
-                    break game;
+                    if (output.isEnabled()) {
+                        print(actualState.getMessage());
+                    }
+                    return finishedResult(actualState);
                 }
             }
             this.increaseRound();
         }
     }
 
+    private Piece[][] setup(Player player, int seat) {
+        if (metrics == null) {
+            return player.setup(this.board);
+        }
+        metrics.begin();
+        Piece[][] setup = player.setup(this.board);
+        metrics.end(seat, GameMetrics.Operation.SETUP);
+        return setup;
+    }
+
+    /**
+     * Pede a jogada ao jogador e a executa no tabuleiro, medindo o tempo gasto.
+     */
+    private Feedback playTurn(Player player, int seat, Feedback myLastFeedback, Feedback enemyLastFeedback) {
+        String playerName = player.getPlayerName();
+        if (timeControl == null) {
+            BoardView view = view(playerName, seat);
+            long start = System.nanoTime();
+            if (metrics != null) {
+                metrics.begin();
+            }
+            PieceAction action = player.play(view, myLastFeedback, enemyLastFeedback);
+            if (metrics != null) {
+                metrics.end(seat, GameMetrics.Operation.PLAY);
+            }
+            thinkingNanos[seat] += System.nanoTime() - start;
+            return execute(action, seat);
+        }
+
+        BoardView view = view(playerName, seat);
+        long start = System.nanoTime();
+        long deadline = start + remainingNanos[seat];
+        CompletableFuture<PieceAction> future = new CompletableFuture<>();
+        // Parede, CPU e alocação medidos na própria thread da jogada
+        long[] cost = new long[3];
+        try {
+            // Uma jogada atrasada ainda em execução consome o tempo desta
+            if (!idle[seat].tryAcquire(remainingNanos[seat], TimeUnit.NANOSECONDS)) {
+                return timedOut(seat, playerName, start);
+            }
+            // Virtual threads não expõem CPU nem alocação, então com métricas a jogada roda em uma thread de plataforma
+            Thread.Builder builder = metrics != null ? Thread.ofPlatform().daemon() : Thread.ofVirtual();
+            thinking[seat] = builder.name(playerName).start(() -> {
+                try {
+                    long allocatedStart = GameMetrics.threadAllocatedBytes();
+                    long cpuStart = GameMetrics.threadCpuTime();
+                    long wallStart = System.nanoTime();
+                    PieceAction action = player.play(view, myLastFeedback, enemyLastFeedback);
+                    cost[0] = System.nanoTime() - wallStart;
+                    cost[1] = cpuStart < 0 ? -1 : GameMetrics.threadCpuTime() - cpuStart;
+                    cost[2] = allocatedStart < 0 ? -1 : GameMetrics.threadAllocatedBytes() - allocatedStart;
+                    future.complete(action);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    idle[seat].release();
+                }
+            });
+            PieceAction action = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+            long elapsed = System.nanoTime() - start;
+            thinkingNanos[seat] += elapsed;
+            remainingNanos[seat] += timeControl.increment().toNanos() - elapsed;
+            if (metrics != null) {
+                metrics.record(seat, GameMetrics.Operation.PLAY, cost[0], cost[1], cost[2]);
+            }
+            return execute(action, seat);
+        } catch (TimeoutException e) {
+            thinking[seat].interrupt();
+            leaveBoardToLateCall();
+            return timedOut(seat, playerName, start);
+        } catch (InterruptedException e) {
+            // A partida foi interrompida: passa a vez e o laço principal encerra o jogo
+            Thread.currentThread().interrupt();
+            leaveBoardToLateCall();
+            return board.passTurn(InvalidMoveFeedback.timeout(playerName));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private BoardView view(String playerName, int seat) {
+        if (metrics == null) {
+            return board.getHiddenView(playerName);
+        }
+        metrics.begin();
+        BoardView view = board.getHiddenView(playerName);
+        metrics.end(seat, GameMetrics.Operation.HIDDEN_VIEW);
+        return view;
+    }
+
+    /**
+     * A jogada que estourou o prazo continua lendo a visão do tabuleiro atual, então a partida segue
+     * em uma cópia e o tabuleiro lido por ela não muda mais. Só copia quando o prazo estoura.
+     */
+    private void leaveBoardToLateCall() {
+        Board late = board;
+        board = new Board(late);
+        late.setActionRecorder(null);
+        board.setActionRecorder(recording);
+    }
+
+    private Feedback execute(PieceAction action, int seat) {
+        if (metrics == null) {
+            return board.executeAction(action);
+        }
+        metrics.begin();
+        Feedback feedback = board.executeAction(action);
+        metrics.end(seat, GameMetrics.Operation.EXECUTE_ACTION);
+        return feedback;
+    }
+
+    private Feedback timedOut(int seat, String playerName, long start) {
+        long elapsed = System.nanoTime() - start;
+        thinkingNanos[seat] += elapsed;
+        if (metrics != null) {
+            metrics.record(seat, GameMetrics.Operation.PLAY, elapsed, -1, -1);
+        }
+        timeouts[seat]++;
+        remainingNanos[seat] = timeControl.increment().toNanos();
+        return board.passTurn(InvalidMoveFeedback.timeout(playerName));
+    }
+
+    private GameResult result(String winner, GameResult.Reason reason) {
+        return new GameResult(winner, reason, board.numberMoves,
+                thinkingNanos[Cells.PLAYER1], thinkingNanos[Cells.PLAYER2], metrics);
+    }
+
+    private GameResult finishedResult(Feedback finalState) {
+        if (finalState instanceof PlayerWithoutPiecesFeedback withoutPieces) {
+            String loser = withoutPieces.getPlayerName();
+            String winner = loser.equals(player1.getPlayerName()) ? player2.getPlayerName() : player1.getPlayerName();
+            return result(winner, GameResult.Reason.NO_MOVABLE_PIECES);
+        }
+        return result(null, GameResult.Reason.MAX_MOVES);
+    }
+
+    /**
+     * Valida e posiciona o setup; o motivo de um setup inválido vai para a saída do jogo.
+     */
+    private boolean addPlayerSetup(Piece[][] playerSetup, int player) {
+        String error = board.setupError(playerSetup);
+        if (error != null) {
+            print(error);
+            return false;
+        }
+        board.placeSetup(playerSetup, player);
+        return true;
+    }
+
+    private void print(String line) {
+        output.println(line);
+    }
+
     public static void main(String[] args) {
 
         SimplePlayer player1 = new SimplePlayer("Player1");
         SimplePlayer player2 = new SimplePlayer("Player2");
 
-        Game game = new Game(player1, player2);
+        // "--headless" joga sem escrever nada no console
+        boolean headless = args.length > 0 && args[0].equals("--headless");
+        Game game = new Game(player1, player2, headless ? GameOutput.none() : GameOutput.console());
         game.start();
     }
 }
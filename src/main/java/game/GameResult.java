@@ -0,0 +1,40 @@
+package game;
+
+import game.metrics.GameMetrics;
+
+/**
+ * Resultado de uma partida.
+ *
+ * @param winner nome do vencedor, ou null em caso de empate.
+ * @param reason motivo do fim da partida.
+ * @param moves  jogadas executadas no tabuleiro (0 quando o jogo termina no setup).
+ * @param player1ThinkingNanos tempo total gasto pelo Player1 em {@code play}.
+ * @param player2ThinkingNanos tempo total gasto pelo Player2 em {@code play}.
+ * @param metrics latências medidas na partida, ou null se a medição não foi ligada.
+ */
+public record GameResult(String winner, Reason reason, int moves,
+                         long player1ThinkingNanos, long player2ThinkingNanos, GameMetrics metrics) {
+
+    public GameResult(String winner, Reason reason, int moves) {
+        this(winner, reason, moves, 0, 0, null);
+    }
+
+    public enum Reason {
+        /** O vencedor achou o prisioneiro adversário. */
+        PRISONER_FOUND,
+        /** O perdedor ficou sem peças móveis. */
+        NO_MOVABLE_PIECES,
+        /** Limite de jogadas do tabuleiro alcançado; sempre empate. */
+        MAX_MOVES,
+        /** Setup inválido de um jogador (derrota dele) ou dos dois (empate). */
+        INVALID_SETUP,
+        /** O perdedor estourou o tempo o número máximo de vezes do {@link game.TimeControl}. */
+        TIMEOUT,
+        /** Partida interrompida antes do fim (thread interrompida); sem vencedor. */
+        ABORTED
+    }
+
+    public boolean isDraw() {
+        return winner == null;
+    }
+}
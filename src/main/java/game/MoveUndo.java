@@ -0,0 +1,47 @@
+package game;
+
+import game.feedbacks.Feedback;
+import game.pieces.Piece;
+
+/**
+ * Registro devolvido por {@link Board#makeMove} com o necessário para desfazer a jogada:
+ * as peças das casas de origem e destino, os ids das últimas peças jogadas pelo jogador, o contador de jogadas
+ * e o jogador da vez.
+ */
+public final class MoveUndo {
+    final int fromX;
+    final int fromY;
+    final int toX;
+    final int toY;
+    final Piece fromPiece;
+    final Piece toPiece;
+    final int historyOwner;
+    final int[] history;
+    final int historySize;
+    final int numberMoves;
+    final int sideToMove;
+    final Feedback feedback;
+
+    MoveUndo(int fromX, int fromY, int toX, int toY, Piece fromPiece, Piece toPiece,
+             int historyOwner, int[] history, int historySize, int numberMoves, int sideToMove, Feedback feedback) {
+        this.fromX = fromX;
+        this.fromY = fromY;
+        this.toX = toX;
+        this.toY = toY;
+        this.fromPiece = fromPiece;
+        this.toPiece = toPiece;
+        this.historyOwner = historyOwner;
+        this.history = history;
+        this.historySize = historySize;
+        this.numberMoves = numberMoves;
+        this.sideToMove = sideToMove;
+        this.feedback = feedback;
+    }
+
+    /**
+     * Feedback da jogada executada.
+     */
+    public Feedback getFeedback() {
+        return feedback;
+    }
+}
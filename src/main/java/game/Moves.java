@@ -0,0 +1,34 @@
+package game;
+
+/**
+ * Jogadas codificadas em um int: casa de origem nos bits 7..13 e casa de destino nos bits 0..6
+ * (índices de {@link Cells}). Cabem em 14 bits, então também podem ser guardadas em um short.
+ */
+public final class Moves {
+    /**
+     * Limite superior de jogadas de um jogador em uma posição; tamanho seguro para o buffer de {@link Board#generateMoves}.
+     */
+    public static final int MAX_MOVES = 512;
+
+    private static final int FROM_SHIFT = 7;
+    private static final int TO_MASK = 0x7F;
+
+    private Moves() {
+    }
+
+    public static int encode(int from, int to) {
+        return (from << FROM_SHIFT) | to;
+    }
+
+    public static int encode(int fromX, int fromY, int toX, int toY) {
+        return encode(Cells.index(fromX, fromY), Cells.index(toX, toY));
+    }
+
+    public static int from(int move) {
+        return move >>> FROM_SHIFT;
+    }
+
+    public static int to(int move) {
+        return move & TO_MASK;
+    }
+}
@@ -0,0 +1,24 @@
+package game;
+
+import java.time.Duration;
+
+/**
+ * Controle de tempo estilo relógio de xadrez: cada jogador começa com {@code base} e ganha
+ * {@code increment} a cada jogada. Uma jogada que estoura o tempo restante vira uma jogada inválida
+ * (passa a vez) e zera o relógio; ao chegar em {@code maxTimeouts} estouros o jogador perde a partida.
+ */
+public record TimeControl(Duration base, Duration increment, int maxTimeouts) {
+
+    public TimeControl {
+        if (base.isNegative() || increment.isNegative()) {
+            throw new IllegalArgumentException("Tempos do relógio não podem ser negativos");
+        }
+        if (maxTimeouts <= 0) {
+            throw new IllegalArgumentException("Número máximo de estouros deve ser positivo");
+        }
+    }
+
+    public static TimeControl of(Duration base, Duration increment, int maxTimeouts) {
+        return new TimeControl(base, increment, maxTimeouts);
+    }
+}
@@ -0,0 +1,32 @@
+package game;
+
+import java.util.SplittableRandom;
+
+/**
+ * Chaves aleatórias de 64 bits para o hash Zobrist do tabuleiro: uma por código de casa (dono + tipo)
+ * em cada uma das 100 casas, e uma para alternar o jogador da vez.
+ * A semente é fixa para que o hash de uma posição seja o mesmo entre execuções.
+ */
+final class Zobrist {
+    static final long SIDE_TO_MOVE;
+    private static final int CODES = 32;
+    private static final long[] KEYS = new long[CODES * Cells.SIZE];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x436F6D62617465L);
+        for (int i = 0; i < KEYS.length; i++) {
+            KEYS[i] = random.nextLong();
+        }
+        SIDE_TO_MOVE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Chave da casa {@code index} ocupada por {@code cell}; casas vazias não contribuem para o hash.
+     */
+    static long key(int index, byte cell) {
+        return cell == Cells.EMPTY ? 0L : KEYS[cell * Cells.SIZE + index];
+    }
+}
@@ -1,30 +1,43 @@
 package game.feedbacks;
 
 import game.pieces.Piece;
+import game.pieces.QuantityPerPiece;
 
 public class AttackFeedback extends Feedback {
-    public Piece attacker;
-    public Piece defender;
+    public final String attackerPlayer;
+    public final byte attackerType;
+    public final String defenderPlayer;
+    public final byte defenderType;
     public int fromX;
     public int fromY;
     public int toX;
     public int toY;
 
     public AttackFeedback(Piece attacker, Piece defender, int fromX, int fromY, int toX, int toY) {
-        super(formateMessage(attacker, defender, fromX, fromY, toX, toY));
-        this.attacker = attacker.copyWithoutBoard();
-        this.defender = defender.copyWithoutBoard();
+        this.attackerPlayer = attacker.getPlayer();
+        this.attackerType = typeOf(attacker);
+        this.defenderPlayer = defender.getPlayer();
+        this.defenderType = typeOf(defender);
         this.fromX = fromX;
         this.fromY = fromY;
         this.toX = toX;
         this.toY = toY;
     }
 
-    private static String formateMessage(Piece attacker, Piece defender, int fromX, int fromY, int toX, int toY) {
+    public QuantityPerPiece getAttackerType() {
+        return toType(attackerType);
+    }
+
+    public QuantityPerPiece getDefenderType() {
+        return toType(defenderType);
+    }
+
+    @Override
+    protected String formatMessage() {
         return String.format(
                 "%s de %s eliminou %s de %s e se moveu de [%s, %d] para [%s, %d]",
-                attacker.getRepresentation(), attacker.getPlayer(),
-                defender.getRepresentation(), defender.getPlayer(),
+                representation(attackerType), attackerPlayer,
+                representation(defenderType), defenderPlayer,
                 convertIntToAlfa(fromX), (fromY + 1), convertIntToAlfa(toX), (toY + 1)
         );
     }
@@ -1,26 +1,47 @@
 package game.feedbacks;
 
 import game.pieces.Piece;
+import game.pieces.QuantityPerPiece;
 
 public class DefeatFeedback extends Feedback {
-    public Piece attacker;
-    public Piece defender;
+    public final String attackerPlayer;
+    public final byte attackerType;
+    public final int attackerX;
+    public final int attackerY;
+    public final String defenderPlayer;
+    public final byte defenderType;
     public int toX;
     public int toY;
 
+    /**
+     * @param toX linha do defensor, que continua na mesma casa
+     * @param toY coluna do defensor
+     */
     public DefeatFeedback(Piece attacker, Piece defender, int toX, int toY) {
-        super(formateMessage(attacker, defender, toX, toY));
-        this.attacker = attacker.copyWithoutBoard();
-        this.defender = defender.copyWithoutBoard();
+        this.attackerPlayer = attacker.getPlayer();
+        this.attackerType = typeOf(attacker);
+        this.attackerX = attacker.getPosX();
+        this.attackerY = attacker.getPosY();
+        this.defenderPlayer = defender.getPlayer();
+        this.defenderType = typeOf(defender);
         this.toX = toX;
         this.toY = toY;
     }
 
-    private static String formateMessage(Piece attacker, Piece defender, int toX, int toY) {
+    public QuantityPerPiece getAttackerType() {
+        return toType(attackerType);
+    }
+
+    public QuantityPerPiece getDefenderType() {
+        return toType(defenderType);
+    }
+
+    @Override
+    protected String formatMessage() {
         return String.format(
                 "%s de %s foi eliminado por %s de %s em [%s, %d]",
-                attacker.getRepresentation(), attacker.getPlayer(),
-                defender.getRepresentation(), defender.getPlayer(),
+                representation(attackerType), attackerPlayer,
+                representation(defenderType), defenderPlayer,
                 convertIntToAlfa(toX), (toY + 1)
         );
     }
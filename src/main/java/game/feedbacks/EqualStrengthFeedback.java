@@ -1,22 +1,43 @@
 package game.feedbacks;
 
 import game.pieces.Piece;
+import game.pieces.QuantityPerPiece;
 
 public class EqualStrengthFeedback extends Feedback {
-    public Piece attacker;
-    public Piece defender;
+    public final String attackerPlayer;
+    public final byte attackerType;
+    public final int attackerX;
+    public final int attackerY;
+    public final String defenderPlayer;
+    public final byte defenderType;
+    public final int defenderX;
+    public final int defenderY;
 
     public EqualStrengthFeedback(Piece attacker, Piece defender) {
-        super(formateMessage(attacker, defender));
-        this.attacker = attacker.copyWithoutBoard();
-        this.defender = defender.copyWithoutBoard();
+        this.attackerPlayer = attacker.getPlayer();
+        this.attackerType = typeOf(attacker);
+        this.attackerX = attacker.getPosX();
+        this.attackerY = attacker.getPosY();
+        this.defenderPlayer = defender.getPlayer();
+        this.defenderType = typeOf(defender);
+        this.defenderX = defender.getPosX();
+        this.defenderY = defender.getPosY();
     }
 
-    private static String formateMessage(Piece piece1, Piece piece2) {
+    public QuantityPerPiece getAttackerType() {
+        return toType(attackerType);
+    }
+
+    public QuantityPerPiece getDefenderType() {
+        return toType(defenderType);
+    }
+
+    @Override
+    protected String formatMessage() {
         return String.format(
                 "%s de %s e %s de %s possuem a mesma força e se eliminaram",
-                piece1.getRepresentation(), piece1.getPlayer(),
-                piece2.getRepresentation(), piece2.getPlayer()
+                representation(attackerType), attackerPlayer,
+                representation(defenderType), defenderPlayer
         );
     }
 }
\ No newline at end of file
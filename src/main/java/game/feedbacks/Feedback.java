@@ -1,10 +1,17 @@
 package game.feedbacks;
 
 import game.pieces.Piece;
+import game.pieces.QuantityPerPiece;
 import lombok.Getter;
 
 @Getter
 public abstract class Feedback {
+    /**
+     * Tipo guardado pelos feedbacks de combate para peças sem tipo conhecido (peça adversária mascarada).
+     */
+    public static final byte NO_TYPE = -1;
+    private static final QuantityPerPiece[] TYPES = QuantityPerPiece.values();
+
     protected Piece piece;
     protected String message;
 
@@ -16,6 +23,46 @@ public abstract class Feedback {
         this.piece = piece;
     }
 
+    /**
+     * Para feedbacks cuja mensagem é montada apenas quando pedida, em {@link #formatMessage()}.
+     */
+    protected Feedback() {
+    }
+
+    /**
+     * Retorna a mensagem do feedback, montando-a na primeira chamada.
+     * Jogos sem saída de texto nunca pagam a formatação.
+     */
+    public String getMessage() {
+        if (message == null) {
+            message = formatMessage();
+        }
+        return message;
+    }
+
+    protected String formatMessage() {
+        return null;
+    }
+
+    /**
+     * Ordinal do tipo da peça, guardado no lugar de uma cópia dela, ou {@link #NO_TYPE}.
+     */
+    protected static byte typeOf(Piece piece) {
+        QuantityPerPiece type = piece.getType();
+        return type != null ? (byte) type.ordinal() : NO_TYPE;
+    }
+
+    protected static QuantityPerPiece toType(byte type) {
+        return type != NO_TYPE ? TYPES[type] : null;
+    }
+
+    /**
+     * Sigla do tipo, a mesma de {@link Piece#getRepresentation()}.
+     */
+    protected static String representation(byte type) {
+        return type != NO_TYPE ? TYPES[type].getCode() : "OP";
+    }
+
     public static String convertIntToAlfa(int value) {
         if (value < 0 || value > 26) {
             throw new IllegalArgumentException("Número deve estar entre 1 e 26");
@@ -4,9 +4,11 @@ import game.pieces.Piece;
 
 public class InvalidMoveFeedback extends Feedback {
     public int posX, posY, newX, newY;
+    private String representation;
+    private String reason;
+    private Object[] reasonArgs;
 
     public InvalidMoveFeedback(int posX, int posY, int newX, int newY) {
-        super("A jogada de [" + convertIntToAlfa(posX) + ", " + (posY + 1) + "] para ["  + convertIntToAlfa(newX) + ", " + (newY + 1) + "] é inválida. Passou a vez");
         this.posX = posX;
         this.posY = posY;
         this.newX = newX;
@@ -14,11 +16,8 @@ public class InvalidMoveFeedback extends Feedback {
     }
 
     public InvalidMoveFeedback(Piece p1, int newX, int newY) {
-        super("A jogada " + p1.getRepresentation() + " de [" + convertIntToAlfa(p1.getPosX()) + ", " + (p1.getPosY() + 1) + "] para ["  + convertIntToAlfa(newX) + ", " + (newY + 1) + "] é inválida. Passou a vez");
-        this.posX = p1.getPosX();
-        this.posY = p1.getPosY();
-        this.newX = newX;
-        this.newY = newY;
+        this(p1.getPosX(), p1.getPosY(), newX, newY);
+        this.representation = p1.getRepresentation();
     }
 
     public InvalidMoveFeedback() {
@@ -26,10 +25,63 @@ public class InvalidMoveFeedback extends Feedback {
     }
 
     public InvalidMoveFeedback(String message) {
-        super("Jogada inválida: " + message + "\nPassou a vez!");
+        this.reason = String.valueOf(message);
     }
 
     public InvalidMoveFeedback(String message, boolean ignoreFormatting) {
         super(message);
     }
+
+    /**
+     * Cópia do feedback, usada para repassá-lo ao adversário sem forçar a montagem da mensagem.
+     */
+    public InvalidMoveFeedback(InvalidMoveFeedback feedback) {
+        super(feedback.message);
+        this.posX = feedback.posX;
+        this.posY = feedback.posY;
+        this.newX = feedback.newX;
+        this.newY = feedback.newY;
+        this.representation = feedback.representation;
+        this.reason = feedback.reason;
+        this.reasonArgs = feedback.reasonArgs;
+    }
+
+    /**
+     * Jogada a partir de uma casa sem peça.
+     */
+    public static InvalidMoveFeedback noPieceAt(int x, int y) {
+        return withReason("Não há peça em [%s, %d]", convertIntToAlfa(x), y + 1);
+    }
+
+    /**
+     * Jogador insistiu na mesma peça além do limite de jogadas repetidas.
+     */
+    public static InvalidMoveFeedback samePieceRepeated(Piece piece) {
+        return withReason("%s moveu a mesma peça mais de 3 vezes, %s em [%s, %d]",
+                piece.getPlayer(), piece.getRepresentation(), convertIntToAlfa(piece.getPosX()), piece.getPosY());
+    }
+
+    /**
+     * Jogador não respondeu dentro do tempo.
+     */
+    public static InvalidMoveFeedback timeout(String player) {
+        return withReason("%s excedeu o tempo da jogada", player);
+    }
+
+    private static InvalidMoveFeedback withReason(String format, Object... args) {
+        InvalidMoveFeedback feedback = new InvalidMoveFeedback(format);
+        feedback.reasonArgs = args;
+        return feedback;
+    }
+
+    @Override
+    protected String formatMessage() {
+        if (reason != null) {
+            String text = reasonArgs != null ? String.format(reason, reasonArgs) : reason;
+            return "Jogada inválida: " + text + "\nPassou a vez!";
+        }
+
+        String move = representation != null ? "A jogada " + representation + " de [" : "A jogada de [";
+        return move + convertIntToAlfa(posX) + ", " + (posY + 1) + "] para ["  + convertIntToAlfa(newX) + ", " + (newY + 1) + "] é inválida. Passou a vez";
+    }
 }
@@ -3,13 +3,22 @@ package game.feedbacks;
 import game.pieces.Piece;
 
 public class LandMineDeactivationFeedback extends Feedback {
+    public int fromX;
+    public int fromY;
 
-    public LandMineDeactivationFeedback(Piece piece) {
-        super(formatMessage(piece));
+    /**
+     * @param piece cabo que desativou a mina, já na casa onde ela estava
+     * @param fromX linha de onde o cabo saiu
+     * @param fromY coluna de onde o cabo saiu
+     */
+    public LandMineDeactivationFeedback(Piece piece, int fromX, int fromY) {
         this.piece = piece.copyWithoutBoard();
+        this.fromX = fromX;
+        this.fromY = fromY;
     }
 
-    private static String formatMessage(Piece piece) {
+    @Override
+    protected String formatMessage() {
         return String.format(
                 "%s de %s desativou uma mina terrestre em [%s, %d]",
                 piece.getRepresentation(), piece.getPlayer(), convertIntToAlfa(piece.getPosX()), (piece.getPosY() + 1)
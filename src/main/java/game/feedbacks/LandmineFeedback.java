@@ -1,25 +1,37 @@
 package game.feedbacks;
 
 import game.pieces.Piece;
+import game.pieces.QuantityPerPiece;
 
 public class LandmineFeedback extends Feedback {
-    private Piece victim;
+    public final String victimPlayer;
+    public final byte victimType;
+    public final int victimX;
+    public final int victimY;
+    public final String minePlayer;
+    public final int mineX;
+    public final int mineY;
 
     public LandmineFeedback(Piece victim, Piece landMine) {
-        super(formateMessage(victim, landMine));
-        this.piece = landMine.copyWithoutBoard();
-        this.victim = victim.copyWithoutBoard();
+        this.victimPlayer = victim.getPlayer();
+        this.victimType = typeOf(victim);
+        this.victimX = victim.getPosX();
+        this.victimY = victim.getPosY();
+        this.minePlayer = landMine.getPlayer();
+        this.mineX = landMine.getPosX();
+        this.mineY = landMine.getPosY();
     }
 
-    public Piece getVictim() {
-        return victim;
+    public QuantityPerPiece getVictimType() {
+        return toType(victimType);
     }
 
-    private static String formateMessage(Piece victim, Piece landMine) {
+    @Override
+    protected String formatMessage() {
         return String.format(
                 "%s de %s foi eliminado por uma mina terrestre em [%s, %d]",
-                victim.getRepresentation(), victim.getPlayer(),
-                convertIntToAlfa(landMine.getPosX()), (landMine.getPosY() + 1)
+                representation(victimType), victimPlayer,
+                convertIntToAlfa(mineX), (mineY + 1)
         );
     }
 }
\ No newline at end of file
@@ -17,7 +17,7 @@ public class MoveFeedback extends Feedback {
     }
 
     @Override
-    public String getMessage() {
+    protected String formatMessage() {
         String baseString = "%s de %s foi movido de [%s, %d] para [%s, %d]";
         String pieceName = piece.getRepresentation();
         String playerName = piece.getPlayer();
@@ -3,12 +3,21 @@ package game.feedbacks;
 import game.players.Player;
 
 public class PlayerWithoutPiecesFeedback extends Feedback {
+    private final String playerName;
 
     public PlayerWithoutPiecesFeedback(Player p) {
-        super(formateMessage(p));
+        this.playerName = p.getPlayerName();
     }
 
-    private static String formateMessage(Player p) {
-        return String.format("Fim de Jogo! Jogador %s sem peças móveis", p.getPlayerName());
+    /**
+     * Nome do jogador que ficou sem peças móveis, ou seja, quem perdeu.
+     */
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    @Override
+    protected String formatMessage() {
+        return String.format("Fim de Jogo! Jogador %s sem peças móveis", playerName);
     }
 }
@@ -4,11 +4,15 @@ import game.pieces.Piece;
 
 public class PrisonerFeedback extends Feedback {
 
+    private final Piece prisoner;
+
     public PrisonerFeedback(Piece piece, Piece prisoner) {
-        super(formateMessage(piece, prisoner));
+        this.piece = piece.copyWithoutBoard();
+        this.prisoner = prisoner.copyWithoutBoard();
     }
 
-    private static String formateMessage(Piece piece, Piece prisoner) {
+    @Override
+    protected String formatMessage() {
         String posX = convertIntToAlfa(prisoner.getPosX());
         int posY = (prisoner.getPosY() + 1);
 
@@ -0,0 +1,200 @@
+package game.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * Latências e alocações de uma ou mais partidas, separadas por jogador ({@code Cells.PLAYER1}/{@code PLAYER2})
+ * e por {@link Operation}: tempo de parede, tempo de CPU e bytes alocados pela thread.
+ * <p>
+ * As chamadas do motor (executeAction, visão do tabuleiro) são atribuídas ao jogador da vez, para
+ * distinguir o custo de cada bot do custo do motor. Chamadas sem tempo de CPU ou alocação (JVM sem os
+ * contadores, jogadas que estouram o prazo) aparecem no resumo como indisponíveis.
+ */
+public final class GameMetrics {
+
+    public enum Operation {
+        SETUP,
+        PLAY,
+        EXECUTE_ACTION,
+        HIDDEN_VIEW
+    }
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = THREADS.isCurrentThreadCpuTimeSupported();
+    // Contador de bytes alocados da HotSpot; ausente em outras JVMs
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS = allocationCounter();
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final LatencyHistogram[][] wall = new LatencyHistogram[2][OPERATIONS.length];
+    private final LatencyHistogram[][] cpu = new LatencyHistogram[2][OPERATIONS.length];
+    private final long[][] allocatedBytes = new long[2][OPERATIONS.length];
+    private final long[][] allocationSamples = new long[2][OPERATIONS.length];
+    // Chamadas cuja CPU ou alocação não pôde ser medida
+    private final long[][] cpuUnavailable = new long[2][OPERATIONS.length];
+    private final long[][] allocationUnavailable = new long[2][OPERATIONS.length];
+    private long startWall;
+    private long startCpu;
+    private long startAllocated;
+
+    public GameMetrics() {
+        for (int seat = 0; seat < 2; seat++) {
+            for (Operation operation : OPERATIONS) {
+                wall[seat][operation.ordinal()] = new LatencyHistogram();
+                cpu[seat][operation.ordinal()] = new LatencyHistogram();
+            }
+        }
+    }
+
+    /**
+     * Tempo de CPU da thread atual em nanossegundos, ou -1 quando indisponível (ex.: virtual threads).
+     */
+    public static long threadCpuTime() {
+        return CPU_TIME_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    /**
+     * Bytes alocados pela thread atual desde que ela começou, ou -1 quando indisponível.
+     */
+    public static long threadAllocatedBytes() {
+        return ALLOCATIONS != null ? ALLOCATIONS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean hotspot && hotspot.isThreadAllocatedMemorySupported()) {
+            hotspot.setThreadAllocatedMemoryEnabled(true);
+            return hotspot;
+        }
+        return null;
+    }
+
+    /**
+     * Marca o início de uma medição na thread da partida; termina com {@link #end}.
+     * As medições não podem ser aninhadas.
+     */
+    public void begin() {
+        startAllocated = threadAllocatedBytes();
+        startCpu = threadCpuTime();
+        startWall = System.nanoTime();
+    }
+
+    public void end(int seat, Operation operation) {
+        long wallNanos = System.nanoTime() - startWall;
+        long cpuNanos = startCpu < 0 ? -1 : threadCpuTime() - startCpu;
+        long bytes = startAllocated < 0 ? -1 : threadAllocatedBytes() - startAllocated;
+        record(seat, operation, wallNanos, cpuNanos, bytes);
+    }
+
+    /**
+     * Registra uma medição feita fora de {@link #begin}/{@link #end}; valores negativos de CPU ou
+     * alocação marcam a chamada como sem medição (ver {@link #getCpuUnavailable}).
+     */
+    public void record(int seat, Operation operation, long wallNanos, long cpuNanos, long bytes) {
+        int index = operation.ordinal();
+        wall[seat][index].record(wallNanos);
+        if (cpuNanos >= 0) {
+            cpu[seat][index].record(cpuNanos);
+        } else {
+            cpuUnavailable[seat][index]++;
+        }
+        if (bytes >= 0) {
+            allocatedBytes[seat][index] += bytes;
+            allocationSamples[seat][index]++;
+        } else {
+            allocationUnavailable[seat][index]++;
+        }
+    }
+
+    public LatencyHistogram getWall(int seat, Operation operation) {
+        return wall[seat][operation.ordinal()];
+    }
+
+    public LatencyHistogram getCpu(int seat, Operation operation) {
+        return cpu[seat][operation.ordinal()];
+    }
+
+    /**
+     * Chamadas da operação sem tempo de CPU medido.
+     */
+    public long getCpuUnavailable(int seat, Operation operation) {
+        return cpuUnavailable[seat][operation.ordinal()];
+    }
+
+    /**
+     * Chamadas da operação sem bytes alocados medidos.
+     */
+    public long getAllocationUnavailable(int seat, Operation operation) {
+        return allocationUnavailable[seat][operation.ordinal()];
+    }
+
+    /**
+     * Total de bytes alocados nas chamadas medidas da operação.
+     */
+    public long getAllocatedBytes(int seat, Operation operation) {
+        return allocatedBytes[seat][operation.ordinal()];
+    }
+
+    /**
+     * Média de bytes alocados por chamada da operação.
+     */
+    public double getAllocatedBytesPerCall(int seat, Operation operation) {
+        long samples = allocationSamples[seat][operation.ordinal()];
+        return samples == 0 ? 0 : (double) allocatedBytes[seat][operation.ordinal()] / samples;
+    }
+
+    /**
+     * Média de bytes alocados por jogada do jogador: play, executeAction e visão do tabuleiro somados.
+     */
+    public double getAllocatedBytesPerPly(int seat) {
+        return getAllocatedBytesPerCall(seat, Operation.PLAY)
+                + getAllocatedBytesPerCall(seat, Operation.EXECUTE_ACTION)
+                + getAllocatedBytesPerCall(seat, Operation.HIDDEN_VIEW);
+    }
+
+    /**
+     * Soma as medições de {@code other} (ex.: para o total de um torneio).
+     */
+    public void merge(GameMetrics other) {
+        for (int seat = 0; seat < 2; seat++) {
+            for (int operation = 0; operation < OPERATIONS.length; operation++) {
+                wall[seat][operation].merge(other.wall[seat][operation]);
+                cpu[seat][operation].merge(other.cpu[seat][operation]);
+                allocatedBytes[seat][operation] += other.allocatedBytes[seat][operation];
+                allocationSamples[seat][operation] += other.allocationSamples[seat][operation];
+                cpuUnavailable[seat][operation] += other.cpuUnavailable[seat][operation];
+                allocationUnavailable[seat][operation] += other.allocationUnavailable[seat][operation];
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int seat = 0; seat < 2; seat++) {
+            for (Operation operation : OPERATIONS) {
+                int index = operation.ordinal();
+                LatencyHistogram cpuTime = getCpu(seat, operation);
+                String allocated = String.format(Locale.ROOT, "%d B (%.0f B/chamada)",
+                        getAllocatedBytes(seat, operation), getAllocatedBytesPerCall(seat, operation));
+                sb.append("Player").append(seat + 1).append(' ').append(operation)
+                        .append(" parede: ").append(getWall(seat, operation))
+                        .append(" | cpu: ").append(measured(cpuTime.toString(), cpuTime.getCount(), cpuUnavailable[seat][index]))
+                        .append(" | alocado: ").append(measured(allocated, allocationSamples[seat][index], allocationUnavailable[seat][index]))
+                        .append('\n');
+            }
+            sb.append(String.format(Locale.ROOT, "Player%d alocado por jogada: %.0f B%n", seat + 1, getAllocatedBytesPerPly(seat)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Valor medido, "indisponível" se nenhuma chamada pôde ser medida, ou o valor com quantas ficaram sem medição.
+     */
+    private static String measured(String value, long measured, long unavailable) {
+        if (unavailable == 0) {
+            return value;
+        }
+        return measured == 0 ? "indisponível" : value + " (" + unavailable + " sem medição)";
+    }
+}
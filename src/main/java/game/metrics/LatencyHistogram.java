@@ -0,0 +1,111 @@
+package game.metrics;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Histograma de latências em nanossegundos, com baldes log-lineares: cada potência de 2 é dividida
+ * em {@value #SUB_BUCKETS} baldes, então os percentis têm erro relativo de no máximo ~3%.
+ * Registrar é só um cálculo de índice e um incremento, sem alocação.
+ * <p>
+ * Não é thread-safe: cada partida registra no seu histograma e os resultados são somados com {@link #merge}.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucket(value)]++;
+        count++;
+        total += value;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Valor abaixo do qual estão {@code percentile}% das amostras (limite superior do balde, até o máximo).
+     * @param percentile entre 0 e 100, ex.: 99.9.
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    private static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int mantissa = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long mantissa = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * Resumo em microssegundos: contagem, p50, p99, p999 e máximo.
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "n=%d p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus",
+                count, getPercentile(50) / 1e3, getPercentile(99) / 1e3, getPercentile(99.9) / 1e3, max / 1e3);
+    }
+}
@@ -0,0 +1,174 @@
+package game.output;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Saída assíncrona: as linhas vão para um buffer circular e uma thread daemon as escreve em lote,
+ * fora da thread do jogo. O stream só recebe flush quando o buffer esvazia, e não em cada linha.
+ * <p>
+ * Vários jogos podem compartilhar a mesma saída; as linhas de cada chamada a {@link #println}
+ * saem inteiras e na ordem em que foram publicadas. Com o buffer cheio o produtor espera a escrita
+ * (não descarta mensagens). A espera é feita em um {@link ReentrantLock}, sem girar, então jogos em
+ * threads virtuais liberam a thread portadora enquanto esperam. A thread de escrita também só acorda
+ * quando há linhas publicadas ou a saída é fechada. {@link #close()} escreve o que falta e faz flush,
+ * mas não fecha o stream.
+ */
+public final class AsyncGameOutput implements GameOutput {
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+
+    private final String[] buffer;
+    private final int mask;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition notEmpty = lock.newCondition();
+    private long head; // próxima posição a publicar, protegida por lock
+    private long tail; // próxima posição a escrever, protegida por lock
+    private boolean closed; // protegido por lock
+    private final Writer writer;
+    private final Thread consumer;
+    private volatile IOException error;
+
+    /**
+     * @param capacity número de linhas no buffer, arredondado para potência de 2.
+     */
+    public AsyncGameOutput(OutputStream out, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.buffer = new String[size];
+        this.mask = size - 1;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        this.consumer = Thread.ofPlatform().daemon().name("game-output").start(this::drain);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void println(String line) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Saída já foi fechada");
+            }
+            while (head - tail >= buffer.length) {
+                notFull.awaitUninterruptibly();
+            }
+            buffer[(int) (head & mask)] = line;
+            head++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drain() {
+        long position = 0;
+        while (true) {
+            long published;
+            boolean done;
+            lock.lock();
+            try {
+                if (tail != position) {
+                    tail = position;
+                    notFull.signalAll();
+                }
+                published = head;
+                done = closed && published == position;
+            } finally {
+                lock.unlock();
+            }
+
+            if (published == position) {
+                flush();
+                if (done) {
+                    return;
+                }
+                lock.lock();
+                try {
+                    while (head == position && !closed) {
+                        notEmpty.awaitUninterruptibly();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                continue;
+            }
+
+            // As casas entre tail e head só são reescritas depois que tail avançar
+            for (; position < published; position++) {
+                int index = (int) (position & mask);
+                write(buffer[index]);
+                buffer[index] = null;
+            }
+        }
+    }
+
+    private void write(String line) {
+        if (error != null) {
+            return;
+        }
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            error = e;
+        }
+    }
+
+    private void flush() {
+        if (error != null) {
+            return;
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            error = e;
+        }
+    }
+
+    /**
+     * Espera a escrita de todas as linhas publicadas e faz flush do stream.
+     * @throws UncheckedIOException se alguma escrita falhou.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        boolean interrupted = false;
+        while (consumer.isAlive()) {
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (error != null) {
+            throw new UncheckedIOException(error);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package game.output;
+
+final class ConsoleOutput implements GameOutput {
+    static final ConsoleOutput INSTANCE = new ConsoleOutput();
+
+    private ConsoleOutput() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void println(String line) {
+        System.out.println(line);
+    }
+}
@@ -0,0 +1,44 @@
+package game.output;
+
+import java.io.OutputStream;
+
+/**
+ * Destino das mensagens de uma partida (feedbacks e tabuleiro renderizado).
+ * <p>
+ * O {@link game.Game} só monta as mensagens quando {@link #isEnabled()} é verdadeiro, então
+ * o modo sem saída ({@link #none()}) não paga nem a formatação nem a renderização do tabuleiro.
+ */
+public interface GameOutput extends AutoCloseable {
+
+    /**
+     * Indica se as mensagens serão escritas; quando falso o jogo não deve montá-las.
+     */
+    boolean isEnabled();
+
+    void println(String line);
+
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Escreve direto no {@code System.out}, como o jogo sempre fez.
+     */
+    static GameOutput console() {
+        return ConsoleOutput.INSTANCE;
+    }
+
+    /**
+     * Modo headless: nenhuma mensagem é montada ou escrita.
+     */
+    static GameOutput none() {
+        return NoOutput.INSTANCE;
+    }
+
+    /**
+     * Escrita em lote por uma thread própria; veja {@link AsyncGameOutput}.
+     */
+    static GameOutput async(OutputStream out) {
+        return new AsyncGameOutput(out, AsyncGameOutput.DEFAULT_CAPACITY);
+    }
+}
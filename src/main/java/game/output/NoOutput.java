@@ -0,0 +1,17 @@
+package game.output;
+
+final class NoOutput implements GameOutput {
+    static final NoOutput INSTANCE = new NoOutput();
+
+    private NoOutput() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void println(String line) {
+    }
+}
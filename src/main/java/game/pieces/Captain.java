@@ -17,6 +17,11 @@ public class Captain extends Piece {
         return "CP";
     }
 
+    @Override
+    public QuantityPerPiece getType() {
+        return QuantityPerPiece.CAPTAIN;
+    }
+
     @Override
     public Captain copy(Board board) {
         return new Captain(this, board);
@@ -17,6 +17,11 @@ public class Colonel extends Piece {
         return "CR";
     }
 
+    @Override
+    public QuantityPerPiece getType() {
+        return QuantityPerPiece.COLONEL;
+    }
+
     @Override
     public Colonel copy(Board board) {
         return new Colonel(this, board);
@@ -0,0 +1,76 @@
+package game.pieces;
+
+/**
+ * Tabela pré-calculada com o resultado de cada combate atacante x defensor entre os 12 tipos de peça.
+ * <p>
+ * Cobre as regras especiais: mina terrestre (elimina o atacante, exceto o Cabo, que a desativa),
+ * Agente Secreto atacando o Coronel, empate de forças e captura do prisioneiro.
+ * Pode ser consultada por jogadores para prever combates sem alterar o tabuleiro.
+ */
+public final class CombatTable {
+    /** Atacante elimina o defensor e ocupa a casa. */
+    public static final int ATTACKER_WINS = 0;
+    /** Atacante é eliminado; o defensor permanece. */
+    public static final int DEFENDER_WINS = 1;
+    /** Mesma força: ambos são eliminados. */
+    public static final int BOTH_ELIMINATED = 2;
+    /** Atacante pisou em uma mina: ambos são eliminados. */
+    public static final int LAND_MINE_EXPLODES = 3;
+    /** Cabo desativa a mina e ocupa a casa. */
+    public static final int LAND_MINE_DEACTIVATED = 4;
+    /** Atacante encontrou o prisioneiro: fim de jogo. */
+    public static final int PRISONER_FOUND = 5;
+    /** Mina terrestre e prisioneiro não atacam. */
+    public static final int ILLEGAL = 6;
+
+    private static final QuantityPerPiece[] TYPES = QuantityPerPiece.values();
+    private static final byte[] OUTCOMES = new byte[TYPES.length * TYPES.length];
+
+    static {
+        for (QuantityPerPiece attacker : TYPES) {
+            for (QuantityPerPiece defender : TYPES) {
+                OUTCOMES[attacker.ordinal() * TYPES.length + defender.ordinal()] = (byte) resolve(attacker, defender);
+            }
+        }
+    }
+
+    private CombatTable() {
+    }
+
+    public static int outcome(QuantityPerPiece attacker, QuantityPerPiece defender) {
+        return OUTCOMES[attacker.ordinal() * TYPES.length + defender.ordinal()];
+    }
+
+    /**
+     * Resultado pelos ordinais de {@link QuantityPerPiece}.
+     */
+    public static int outcome(int attacker, int defender) {
+        return OUTCOMES[attacker * TYPES.length + defender];
+    }
+
+    /**
+     * Resultado apenas pela força, usado quando o tipo de alguma das peças é desconhecido.
+     */
+    public static int byStrength(int attackerStrength, int defenderStrength) {
+        if (attackerStrength > defenderStrength) {
+            return ATTACKER_WINS;
+        }
+        return attackerStrength == defenderStrength ? BOTH_ELIMINATED : DEFENDER_WINS;
+    }
+
+    private static int resolve(QuantityPerPiece attacker, QuantityPerPiece defender) {
+        if (attacker == QuantityPerPiece.LAND_MINE || attacker == QuantityPerPiece.PRISONER) {
+            return ILLEGAL;
+        }
+        if (defender == QuantityPerPiece.PRISONER) {
+            return PRISONER_FOUND;
+        }
+        if (defender == QuantityPerPiece.LAND_MINE) {
+            return attacker == QuantityPerPiece.CORPORAL ? LAND_MINE_DEACTIVATED : LAND_MINE_EXPLODES;
+        }
+        if (attacker == QuantityPerPiece.SECRET_AGENT && defender == QuantityPerPiece.COLONEL) {
+            return ATTACKER_WINS;
+        }
+        return byStrength(attacker.getStrength(), defender.getStrength());
+    }
+}
@@ -1,11 +1,9 @@
 package game.pieces;
 
 import game.Board;
-import game.feedbacks.Feedback;
-import game.feedbacks.LandMineDeactivationFeedback;
 
 /**
- * Regra especial: É o único que pode desativar minas terrestres.
+ * Regra especial: É o único que pode desativar minas terrestres (resolvido em {@link CombatTable}).
  */
 public class Corporal extends Piece {
 
@@ -17,22 +15,16 @@ public class Corporal extends Piece {
         super(original, newBoard);
     }
 
-    @Override
-    public Feedback fight(Piece piece) {
-        if (piece.getClass().getSimpleName().equals("LandMine")) {
-            board.setPiece(piece.posX, piece.posY, this);
-            this.setPosition(piece.posX, piece.posY);
-            return new LandMineDeactivationFeedback(this);
-        }
-
-        return super.fight(piece);
-    };
-
     @Override
     public String getRepresentation() {
         return "C";
     }
 
+    @Override
+    public QuantityPerPiece getType() {
+        return QuantityPerPiece.CORPORAL;
+    }
+
     @Override
     public Corporal copy(Board board) {
         return new Corporal(this, board);
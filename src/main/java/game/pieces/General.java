@@ -17,6 +17,11 @@ public class General extends Piece {
         return "G";
     }
 
+    @Override
+    public QuantityPerPiece getType() {
+        return QuantityPerPiece.GENERAL;
+    }
+
     @Override
     public General copy(Board board) {
         return new General(this, board);
@@ -36,6 +36,11 @@ public class LandMine extends Piece {
         return "M";
     }
 
+    @Override
+    public QuantityPerPiece getType() {
+        return QuantityPerPiece.LAND_MINE;
+    }
+
     @Override
     public LandMine copy(Board board) {
         return new LandMine(this, board);
@@ -17,6 +17,11 @@ public class Lieutenant extends Piece {
         return "T";
     }
 
+    @Override
+    public QuantityPerPiece getType() {
+        return QuantityPerPiece.LIEUTENANT;
+    }
+
     @Override
     public Lieutenant copy(Board board) {
         return new Lieutenant(this, board);
@@ -17,6 +17,11 @@ public class Major extends Piece {
         return "MJ";
     }
 
+    @Override
+    public QuantityPerPiece getType() {
+        return QuantityPerPiece.MAJOR;
+    }
+
     @Override
     public Major copy(Board board) {
         return new Major(this, board);
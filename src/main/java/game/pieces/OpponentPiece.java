@@ -8,13 +8,19 @@ public class OpponentPiece extends Piece {
         super(999, board);
     }
 
+    public OpponentPiece(String player, Board board) {
+        super(999, player, board);
+    }
+
     public OpponentPiece(OpponentPiece original, Board newBoard) {
         super(original, newBoard);
     }
 
+    /**
+     * Mascara uma peça adversária; o id não é copiado para não revelar a ordem de criação das peças.
+     */
     public OpponentPiece(Piece enemy) {
-        super(enemy);
-        this.strength = 999;
+        super(999, enemy.getPlayer(), enemy.getPosX(), enemy.getPosY());
     }
 
     @Override
@@ -1,11 +1,16 @@
 package game.pieces;
 
 import game.Board;
+import game.BoardView;
 import game.feedbacks.*;
-import java.util.UUID;
 
 public abstract class Piece {
-    private final UUID id;
+    /**
+     * Identificador das peças criadas sem tabuleiro; elas só são iguais a si mesmas.
+     */
+    public static final int NO_ID = -1;
+
+    private int id;
     protected int strength;
     protected int posX;
     protected int posY;
@@ -13,18 +18,29 @@ public abstract class Piece {
     protected Board board;
 
     public Piece(int strength, String player, Board board) {
-        this.id = UUID.randomUUID();
+        this.id = board != null ? board.allocatePieceId() : NO_ID;
         this.strength = strength;
         this.player = player;
         this.board = board;
     }
 
     public Piece(int strength, Board board) {
-        this.id = UUID.randomUUID();
+        this.id = NO_ID;
         this.strength = strength;
         this.board = board;
     }
 
+    /**
+     * Peça sem tabuleiro já posicionada em (posX, posY).
+     */
+    protected Piece(int strength, String player, int posX, int posY) {
+        this.id = NO_ID;
+        this.strength = strength;
+        this.player = player;
+        this.posX = posX;
+        this.posY = posY;
+    }
+
     public Piece(Piece piece, Board board) {
         this.id = piece.id;
         this.board = board;
@@ -43,7 +59,34 @@ public abstract class Piece {
     }
 
     public boolean equals(Piece piece) {
-        return this.id.equals(piece.id);
+        return this.id == piece.id && (this.id != NO_ID || this == piece);
+    }
+
+    /**
+     * Identificador da peça no jogo, atribuído pelo tabuleiro na criação e mantido pelas cópias.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Dá à peça um id de {@code board} se ela foi criada sem tabuleiro ({@link #NO_ID}). Chamado ao
+     * posicioná-la, para que o histórico de jogadas do tabuleiro nunca confunda duas dessas peças.
+     */
+    public void ensureId(Board board) {
+        if (id == NO_ID) {
+            id = board.allocatePieceId();
+        }
+    }
+
+    /**
+     * Faz esta peça ocupar o lugar de {@code piece}: passa a ter o mesmo id e o mesmo dono. Usado pelas buscas
+     * que trocam uma peça mascarada por outra de tipo conhecido, para que o histórico de jogadas e as crenças
+     * indexadas por id continuem valendo para a peça trocada.
+     */
+    public void assumeIdentityOf(Piece piece) {
+        this.id = piece.id;
+        this.player = piece.player;
     }
 
     /**
@@ -81,35 +124,50 @@ public abstract class Piece {
         return new InvalidMoveFeedback(posX, posY, newX, newY);
     }
 
+    /**
+     * Resolve o ataque desta peça a {@code piece} pela {@link CombatTable}.
+     */
     public Feedback fight(Piece piece) {
-        if (piece.getClass().getSimpleName().equals("LandMine")) {
-            board.setPiece(piece.posX, piece.posY, null);
-            return new LandmineFeedback(this, piece);
-        }
-
-        if (piece.getClass().getSimpleName().equals("Prisoner")) {
-            return new PrisonerFeedback(this, piece);
-        }
-
-        if (this.strength > piece.getStrength()) {
-            int fromX = this.posX;
-            int fromY = this.posY;
+        QuantityPerPiece attackerType = getType();
+        QuantityPerPiece defenderType = piece.getType();
+        int outcome = attackerType != null && defenderType != null
+                ? CombatTable.outcome(attackerType, defenderType)
+                : CombatTable.byStrength(this.strength, piece.getStrength());
+
+        switch (outcome) {
+            case CombatTable.LAND_MINE_EXPLODES -> {
+                board.setPiece(piece.posX, piece.posY, null);
+                return new LandmineFeedback(this, piece);
+            }
+            case CombatTable.LAND_MINE_DEACTIVATED -> {
+                int fromX = this.posX;
+                int fromY = this.posY;
 
-            board.setPiece(piece.posX, piece.posY, this);
-            this.setPosition(piece.posX, piece.posY);
-            return new AttackFeedback(this, piece, fromX, fromY, piece.posX, piece.posY);
-        }
+                board.setPiece(piece.posX, piece.posY, this);
+                return new LandMineDeactivationFeedback(this, fromX, fromY);
+            }
+            case CombatTable.PRISONER_FOUND -> {
+                return new PrisonerFeedback(this, piece);
+            }
+            case CombatTable.ATTACKER_WINS -> {
+                int fromX = this.posX;
+                int fromY = this.posY;
 
-        if (this.strength == piece.getStrength()) {
-            board.setPiece(piece.posX, piece.posY, null);
-            return new EqualStrengthFeedback(this, piece);
+                board.setPiece(piece.posX, piece.posY, this);
+                return new AttackFeedback(this, piece, fromX, fromY, piece.posX, piece.posY);
+            }
+            case CombatTable.BOTH_ELIMINATED -> {
+                board.setPiece(piece.posX, piece.posY, null);
+                return new EqualStrengthFeedback(this, piece);
+            }
+            case CombatTable.DEFENDER_WINS -> {
+                // Se o atacante perde:
+                board.setPiece(piece.posX, piece.posY, piece);
+                return new DefeatFeedback(this, piece, piece.getPosX(), piece.getPosY());
+            }
+            default -> throw new UnsupportedOperationException(getRepresentation() + " não pode batalhar");
         }
-
-        // Se o atacante perde:
-        board.setPiece(piece.posX, piece.posY, piece);
-        return new DefeatFeedback(this, piece, piece.getPosX(), piece.getPosY());
-    };
-
+    }
 
     public int getStrength() {
         return strength;
@@ -140,7 +198,23 @@ public abstract class Piece {
         return "P";
     }
 
+    /**
+     * Retorna o tipo da peça, usado na representação compacta do tabuleiro.
+     * Peças sem tipo conhecido (ex.: peça adversária mascarada) retornam null.
+     */
+    public QuantityPerPiece getType() {
+        return null;
+    }
+
     public abstract Piece copy(Board newBoard);
 
     public abstract Piece copyWithoutBoard();
+
+    /**
+     * Cópia entregue por {@link BoardView#getPiece}; peças que consultam o tabuleiro nas próprias regras
+     * o fazem pela visão, sem copiá-lo.
+     */
+    public Piece copyForView(BoardView view) {
+        return copyWithoutBoard();
+    }
 }
@@ -36,6 +36,11 @@ public class Prisoner extends Piece {
         return "PS";
     }
 
+    @Override
+    public QuantityPerPiece getType() {
+        return QuantityPerPiece.PRISONER;
+    }
+
     @Override
     public Prisoner copy(Board board) {
         return new Prisoner(this, board);
@@ -1,31 +1,40 @@
 package game.pieces;
 
 public enum QuantityPerPiece {
-    CAPTAIN("CP", 3),
-    COLONEL("CR", 1),
-    CORPORAL("C", 5),
-    GENERAL("G", 1),
-    LAND_MINE("M", 6),
-    LIEUTENANT("T", 4),
-    MAJOR("MJ", 2),
-    PRISONER("PS", 1),
-    SARGENT("SG", 4),
-    SECRET_AGENT("AS", 1),
-    SOLDIER("S", 8),
-    SUBLIEUTENANT("ST", 4);
+    CAPTAIN("CP", 3, 7),
+    COLONEL("CR", 1, 9),
+    CORPORAL("C", 5, 3),
+    GENERAL("G", 1, 10),
+    LAND_MINE("M", 6, 0),
+    LIEUTENANT("T", 4, 6),
+    MAJOR("MJ", 2, 8),
+    PRISONER("PS", 1, 0),
+    SARGENT("SG", 4, 4),
+    SECRET_AGENT("AS", 1, 1),
+    SOLDIER("S", 8, 2),
+    SUBLIEUTENANT("ST", 4, 5);
 
     private final String code;
     private final int quantity;
+    private final int strength;
 
-    QuantityPerPiece(String code, int quantity) {
+    QuantityPerPiece(String code, int quantity, int strength) {
         this.code = code;
         this.quantity = quantity;
+        this.strength = strength;
     }
 
     public int getQuantity() {
         return quantity;
     }
 
+    /**
+     * Força usada nos combates (a mesma passada ao construtor da peça correspondente).
+     */
+    public int getStrength() {
+        return strength;
+    }
+
     public String getCode() {
         return code;
     }
@@ -17,6 +17,11 @@ public class Sargent extends Piece {
         return "SG";
     }
 
+    @Override
+    public QuantityPerPiece getType() {
+        return QuantityPerPiece.SARGENT;
+    }
+
     @Override
     public Sargent copy(Board board) {
         return new Sargent(this, board);
@@ -1,11 +1,9 @@
 package game.pieces;
 
 import game.Board;
-import game.feedbacks.AttackFeedback;
-import game.feedbacks.Feedback;
 
 /**
- * Regra especial: único que pode eliminar o General se atacar primeiro.
+ * Regra especial: único que pode eliminar o General se atacar primeiro (resolvido em {@link CombatTable}).
  */
 public class SecretAgent extends Piece {
 
@@ -17,27 +15,16 @@ public class SecretAgent extends Piece {
         super(original, newBoard);
     }
 
-    @Override
-    public Feedback fight(Piece piece) {
-        if (piece.getClass().getSimpleName().equals("Colonel")) {
-
-            int initialPosX = this.posX;
-            int initialPosY = this.posY;
-
-            board.setPiece(initialPosX, initialPosY, null);
-            board.setPiece(piece.posX, piece.posY, this);
-            this.setPosition(piece.posX, piece.posY);
-            return new AttackFeedback(this, piece, initialPosX, initialPosY, piece.posX, piece.posY);
-        }
-
-        return super.fight(piece);
-    };
-
     @Override
     public String getRepresentation() {
         return "AS";
     }
 
+    @Override
+    public QuantityPerPiece getType() {
+        return QuantityPerPiece.SECRET_AGENT;
+    }
+
     @Override
     public SecretAgent copy(Board board) {
         return new SecretAgent(this, board);
@@ -1,19 +1,29 @@
 package game.pieces;
 
 import game.Board;
+import game.BoardView;
 
 /**
  * Regra: pode mover-se várias casas em linha reta (horizontal ou vertical)
  * desde que o caminho esteja livre. Se mover mais de uma casa, não pode atacar na mesma rodada.
  */
 public class Soldier extends Piece {
+    // Cópias entregues por uma BoardView verificam o caminho nas casas da visão, sem tabuleiro próprio
+    private final BoardView view;
 
     public Soldier(String player, Board board) {
         super(2, player, board);
+        this.view = null;
     }
 
     public Soldier(Soldier original, Board newBoard) {
         super(original, newBoard);
+        this.view = null;
+    }
+
+    private Soldier(Soldier original, BoardView view) {
+        super(original, null);
+        this.view = view;
     }
 
     @Override
@@ -36,18 +46,27 @@ public class Soldier extends Piece {
         while (currentX != newX || currentY != newY) {
             currentX += dx;
             currentY += dy;
-            if (board.getPiece(currentX, currentY) != null) {
+            if (!Board.isValidPosition(currentX, currentY) || !isEmpty(currentX, currentY)) {
                 return false;
             }
         }
         return true;
     }
 
+    private boolean isEmpty(int x, int y) {
+        return view != null ? view.isEmpty(x, y) : board.getPiece(x, y) == null;
+    }
+
     @Override
     public String getRepresentation() {
         return "S";
     }
 
+    @Override
+    public QuantityPerPiece getType() {
+        return QuantityPerPiece.SOLDIER;
+    }
+
     @Override
     public Soldier copy(Board board) {
         return new Soldier(this, board);
@@ -55,6 +74,11 @@ public class Soldier extends Piece {
 
     @Override
     public Piece copyWithoutBoard() {
-        return new Soldier(this, null);
+        return new Soldier(this, (Board) null);
+    }
+
+    @Override
+    public Piece copyForView(BoardView view) {
+        return new Soldier(this, view);
     }
 }
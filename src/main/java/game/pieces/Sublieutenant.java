@@ -17,6 +17,11 @@ public class Sublieutenant extends Piece {
         return "ST";
     }
 
+    @Override
+    public QuantityPerPiece getType() {
+        return QuantityPerPiece.SUBLIEUTENANT;
+    }
+
     @Override
     public Sublieutenant copy(Board board) {
         return new Sublieutenant(this, board);
@@ -0,0 +1,408 @@
+package game.players;
+
+import game.Board;
+import game.Cells;
+import game.feedbacks.AttackFeedback;
+import game.feedbacks.DefeatFeedback;
+import game.feedbacks.EqualStrengthFeedback;
+import game.feedbacks.Feedback;
+import game.feedbacks.LandMineDeactivationFeedback;
+import game.feedbacks.LandmineFeedback;
+import game.feedbacks.MoveFeedback;
+import game.pieces.Piece;
+import game.pieces.PieceFactory;
+import game.pieces.QuantityPerPiece;
+import game.search.Determinizer;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Crença sobre o tipo de cada peça adversária, atualizada pelos feedbacks das jogadas.
+ * <p>
+ * Cada casa guarda um peso por tipo (1 se o tipo ainda é compatível com o que a peça já fez, 0 se não é)
+ * e a probabilidade é {@code peso * restantes(tipo)} normalizada na casa, onde {@code restantes} conta as
+ * peças vivas daquele tipo que ainda não foram identificadas. Cada feedback altera no máximo duas casas e as
+ * contagens por tipo, então o custo por jogada é constante; a normalização de uma casa só é recalculada
+ * quando ela é consultada depois de alguma mudança.
+ */
+public final class EnemyBeliefs {
+    private static final QuantityPerPiece[] TYPES = QuantityPerPiece.values();
+    private static final int UNKNOWN = -1;
+    private static final long SALT = 0xC2B2AE3D27D4EB4FL;
+    private static final long SALT2 = 0x9E3779B97F4A7C15L;
+
+    private final String playerName;
+    // Índice Cells.index(x, y) * TYPES.length + ordinal
+    private final double[] weights = new double[Cells.SIZE * TYPES.length];
+    // Tipo revelado da peça em cada casa (ordinal) ou UNKNOWN
+    private final byte[] known = new byte[Cells.SIZE];
+    private final int[] alive = new int[TYPES.length];
+    private final int[] identified = new int[TYPES.length];
+
+    // Normalização preguiçosa: a casa só é recalculada se mudou ou se as contagens mudaram desde o último cálculo
+    private final double[] norms = new double[Cells.SIZE];
+    private final int[] normVersions = new int[Cells.SIZE];
+    private int version;
+    private long key;
+
+    /**
+     * @param playerName nome de quem mantém a crença; as peças dos outros jogadores são as adversárias
+     * @param player1    se quem mantém a crença é o Player1 (adversário nas fileiras 6..9) ou o Player2 (0..3)
+     */
+    public EnemyBeliefs(String playerName, boolean player1) {
+        this.playerName = playerName;
+        Arrays.fill(known, (byte) UNKNOWN);
+        Arrays.fill(normVersions, -1);
+        for (QuantityPerPiece type : TYPES) {
+            alive[type.ordinal()] = type.getQuantity();
+        }
+
+        int enemyStartRow = player1 ? 6 : 0;
+        int enemyEndRow = player1 ? 9 : 3;
+        for (int x = enemyStartRow; x <= enemyEndRow; x++) {
+            for (int y = 0; y < Board.COLS; y++) {
+                if (!Board.isLake(x, y)) {
+                    Arrays.fill(weights, offset(x, y), offset(x, y) + TYPES.length, 1.0);
+                }
+            }
+        }
+        key = enemyStartRow;
+    }
+
+    private static int offset(int x, int y) {
+        return Cells.index(x, y) * TYPES.length;
+    }
+
+    /**
+     * Probabilidade de a peça adversária em (x, y) ser do tipo {@code type}; 0 se a casa não tem peça adversária.
+     */
+    public double probability(int x, int y, QuantityPerPiece type) {
+        int index = Cells.index(x, y);
+        if (known[index] != UNKNOWN) {
+            return known[index] == type.ordinal() ? 1.0 : 0.0;
+        }
+
+        double norm = norm(index);
+        if (norm == 0) {
+            return 0;
+        }
+        return weights[index * TYPES.length + type.ordinal()] * unidentified(type.ordinal()) / norm;
+    }
+
+    /**
+     * Tipo já revelado da peça adversária em (x, y), ou null se ele ainda é desconhecido.
+     */
+    public QuantityPerPiece getKnownType(int x, int y) {
+        int type = known[Cells.index(x, y)];
+        return type == UNKNOWN ? null : TYPES[type];
+    }
+
+    /**
+     * Peças adversárias vivas do tipo, identificadas ou não.
+     */
+    public int getRemaining(QuantityPerPiece type) {
+        return alive[type.ordinal()];
+    }
+
+    /**
+     * Chave que muda a cada alteração da crença; crenças com o mesmo histórico de feedbacks têm a mesma chave.
+     */
+    public long getKey() {
+        return key;
+    }
+
+    /**
+     * Troca cada peça de {@code enemyName} em {@code board} por uma peça com tipo sorteado conforme a crença:
+     * as já identificadas mantêm o tipo e as demais recebem, em ordem aleatória, tipos das peças ainda não
+     * identificadas, respeitando o que cada casa já descartou e sem repetir mais peças de um tipo do que restam.
+     * <p>
+     * Só lê a crença, então várias threads podem sortear ao mesmo tempo, cada uma com seu tabuleiro e gerador,
+     * desde que ninguém chame {@link #update} ou {@link #probability} enquanto isso. Para sortear muitas vezes
+     * sobre o mesmo tabuleiro use {@link #determinizer}, que não aloca a cada sorteio.
+     */
+    public void determinize(Board board, String enemyName, RandomGenerator random) {
+        determinizer(enemyName).determinize(board, random);
+    }
+
+    /**
+     * Sorteio como o de {@link #determinize} que reaproveita os vetores de trabalho e um estoque de peças
+     * por tipo, criado no primeiro sorteio sobre cada tabuleiro: sortear de novo não aloca nem consome ids
+     * do tabuleiro. Cada busca usa o seu, já que ele não é thread-safe.
+     */
+    public Determinizer determinizer(String enemyName) {
+        return new Sampler(enemyName);
+    }
+
+    private final class Sampler implements Determinizer {
+        private final String enemyName;
+        private final int[] cells = new int[Cells.SIZE];
+        private final int[] remaining = new int[TYPES.length];
+        private final int[] used = new int[TYPES.length];
+        // Peças de cada tipo já criadas sobre o tabuleiro; cada uma aparece no máximo uma vez por sorteio
+        private final Piece[][] stock = new Piece[TYPES.length][];
+        private Board board;
+
+        Sampler(String enemyName) {
+            this.enemyName = enemyName;
+        }
+
+        @Override
+        public void determinize(Board board, RandomGenerator random) {
+            if (board != this.board) {
+                this.board = board;
+                Arrays.fill(stock, null);
+            }
+            int enemy = board.ownerOf(enemyName);
+            int count = 0;
+            for (int i = 0; i < Cells.SIZE; i++) {
+                byte cell = board.getCell(Cells.row(i), Cells.col(i));
+                if (!Cells.isEmpty(cell) && Cells.owner(cell) == enemy) {
+                    cells[count++] = i;
+                }
+            }
+            // Fisher-Yates: a ordem de sorteio não deve favorecer nenhuma região do tabuleiro
+            for (int i = count - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = cells[i];
+                cells[i] = cells[j];
+                cells[j] = tmp;
+            }
+
+            for (int type = 0; type < TYPES.length; type++) {
+                remaining[type] = unidentified(type);
+            }
+            Arrays.fill(used, 0);
+            for (int i = 0; i < count; i++) {
+                int index = cells[i];
+                int type = known[index] != UNKNOWN ? known[index] : sampleType(index, remaining, random);
+                board.setPiece(Cells.row(index), Cells.col(index), piece(type));
+            }
+        }
+
+        private Piece piece(int type) {
+            Piece[] pieces = stock[type];
+            if (pieces == null) {
+                pieces = stock[type] = new Piece[TYPES[type].getQuantity()];
+            } else if (used[type] == pieces.length) {
+                // Crença inconsistente com as quantidades iniciais: o estoque cresce uma vez e volta a ser reaproveitado
+                pieces = stock[type] = Arrays.copyOf(pieces, pieces.length * 2);
+            }
+            Piece piece = pieces[used[type]];
+            if (piece == null) {
+                piece = pieces[used[type]] = PieceFactory.createPiece(TYPES[type].getCode(), enemyName, board);
+            }
+            used[type]++;
+            return piece;
+        }
+    }
+
+    private int sampleType(int index, int[] remaining, RandomGenerator random) {
+        int offset = index * TYPES.length;
+        double total = 0;
+        for (int type = 0; type < TYPES.length; type++) {
+            total += weights[offset + type] * remaining[type];
+        }
+        // Crença sem tipo compatível (ex.: peça que não acompanhamos): sorteia só pelas peças restantes
+        boolean masked = total > 0;
+        if (!masked) {
+            for (int type = 0; type < TYPES.length; type++) {
+                total += remaining[type];
+            }
+            if (total == 0) {
+                return QuantityPerPiece.SOLDIER.ordinal();
+            }
+        }
+
+        double r = random.nextDouble() * total;
+        int chosen = 0;
+        for (int type = 0; type < TYPES.length; type++) {
+            double weight = (masked ? weights[offset + type] : 1.0) * remaining[type];
+            if (weight > 0) {
+                chosen = type;
+                r -= weight;
+                if (r < 0) {
+                    break;
+                }
+            }
+        }
+        if (remaining[chosen] > 0) {
+            remaining[chosen]--;
+        }
+        return chosen;
+    }
+
+    private int unidentified(int type) {
+        return Math.max(0, alive[type] - identified[type]);
+    }
+
+    private double norm(int index) {
+        if (normVersions[index] != version) {
+            double sum = 0;
+            int offset = index * TYPES.length;
+            for (int type = 0; type < TYPES.length; type++) {
+                sum += weights[offset + type] * unidentified(type);
+            }
+            norms[index] = sum;
+            normVersions[index] = version;
+        }
+        return norms[index];
+    }
+
+    /**
+     * Atualiza a crença com o feedback de uma jogada (própria ou do adversário). Feedbacks sem
+     * informação sobre as peças adversárias são ignorados.
+     */
+    public void update(Feedback feedback) {
+        if (feedback instanceof MoveFeedback mv) {
+            if (isEnemy(mv.getPiece())) {
+                move(mv.fromX, mv.fromY, mv.toX, mv.toY);
+                int distance = Math.abs(mv.toX - mv.fromX) + Math.abs(mv.toY - mv.fromY);
+                if (distance > 1) {
+                    // Só o soldado anda mais de uma casa
+                    identify(mv.toX, mv.toY, QuantityPerPiece.SOLDIER);
+                } else {
+                    exclude(mv.toX, mv.toY, QuantityPerPiece.LAND_MINE);
+                    exclude(mv.toX, mv.toY, QuantityPerPiece.PRISONER);
+                }
+            }
+        } else if (feedback instanceof AttackFeedback atk) {
+            // O atacante venceu e foi de [fromX, fromY] para [toX, toY]
+            if (isEnemy(atk.defenderPlayer)) {
+                removeType(atk.toX, atk.toY, atk.getDefenderType());
+            }
+            if (isEnemy(atk.attackerPlayer)) {
+                clear(atk.toX, atk.toY);
+                move(atk.fromX, atk.fromY, atk.toX, atk.toY);
+                identify(atk.toX, atk.toY, atk.getAttackerType());
+            }
+        } else if (feedback instanceof DefeatFeedback df) {
+            // O atacante perdeu na casa de origem e o defensor ficou onde estava
+            if (isEnemy(df.attackerPlayer)) {
+                removeType(df.attackerX, df.attackerY, df.getAttackerType());
+            }
+            if (isEnemy(df.defenderPlayer)) {
+                identify(df.toX, df.toY, df.getDefenderType());
+            }
+        } else if (feedback instanceof EqualStrengthFeedback eq) {
+            if (isEnemy(eq.attackerPlayer)) {
+                removeType(eq.attackerX, eq.attackerY, eq.getAttackerType());
+            }
+            if (isEnemy(eq.defenderPlayer)) {
+                removeType(eq.defenderX, eq.defenderY, eq.getDefenderType());
+            }
+        } else if (feedback instanceof LandmineFeedback lm) {
+            // A vítima e a mina são eliminadas
+            if (isEnemy(lm.victimPlayer)) {
+                removeType(lm.victimX, lm.victimY, lm.getVictimType());
+            }
+            if (isEnemy(lm.minePlayer)) {
+                removeType(lm.mineX, lm.mineY, QuantityPerPiece.LAND_MINE);
+            }
+        } else if (feedback instanceof LandMineDeactivationFeedback lmd) {
+            // O cabo ocupa a casa da mina
+            Piece corporal = lmd.getPiece();
+            int toX = corporal.getPosX();
+            int toY = corporal.getPosY();
+            if (isEnemy(corporal)) {
+                move(lmd.fromX, lmd.fromY, toX, toY);
+                identify(toX, toY, QuantityPerPiece.CORPORAL);
+            } else {
+                removeType(toX, toY, QuantityPerPiece.LAND_MINE);
+            }
+        }
+    }
+
+    private boolean isEnemy(Piece piece) {
+        return piece != null && isEnemy(piece.getPlayer());
+    }
+
+    private boolean isEnemy(String player) {
+        return player != null && !player.equals(playerName);
+    }
+
+    private void move(int fromX, int fromY, int toX, int toY) {
+        if (!Board.isValidPosition(fromX, fromY) || !Board.isValidPosition(toX, toY)) {
+            return;
+        }
+        int from = Cells.index(fromX, fromY);
+        int to = Cells.index(toX, toY);
+        System.arraycopy(weights, from * TYPES.length, weights, to * TYPES.length, TYPES.length);
+        known[to] = known[from];
+        known[from] = UNKNOWN;
+        Arrays.fill(weights, from * TYPES.length, (from + 1) * TYPES.length, 0.0);
+        normVersions[to] = -1;
+        normVersions[from] = -1;
+        record(1, from, to);
+    }
+
+    /**
+     * A peça em (x, y) não pode ser do tipo (ex.: ela se moveu, então não é mina nem prisioneiro).
+     */
+    private void exclude(int x, int y, QuantityPerPiece type) {
+        int index = Cells.index(x, y);
+        if (known[index] == UNKNOWN && weights[index * TYPES.length + type.ordinal()] != 0) {
+            weights[index * TYPES.length + type.ordinal()] = 0;
+            normVersions[index] = -1;
+            record(2, index, type.ordinal());
+        }
+    }
+
+    private void identify(int x, int y, QuantityPerPiece type) {
+        if (type == null || !Board.isValidPosition(x, y)) {
+            return;
+        }
+        int index = Cells.index(x, y);
+        if (known[index] == type.ordinal()) {
+            return;
+        }
+        if (known[index] != UNKNOWN) {
+            identified[known[index]]--;
+        }
+        known[index] = (byte) type.ordinal();
+        identified[type.ordinal()]++;
+        int offset = index * TYPES.length;
+        Arrays.fill(weights, offset, offset + TYPES.length, 0.0);
+        weights[offset + type.ordinal()] = 1.0;
+        version++;
+        record(3, index, type.ordinal());
+    }
+
+    private void removeType(int x, int y, QuantityPerPiece type) {
+        if (!Board.isValidPosition(x, y)) {
+            return;
+        }
+        int index = Cells.index(x, y);
+        if (known[index] != UNKNOWN) {
+            identified[known[index]]--;
+            known[index] = UNKNOWN;
+        }
+        if (type != null && alive[type.ordinal()] > 0) {
+            alive[type.ordinal()]--;
+        }
+        clear(x, y);
+        version++;
+        record(4, index, type != null ? type.ordinal() : UNKNOWN);
+    }
+
+    private void clear(int x, int y) {
+        if (!Board.isValidPosition(x, y)) {
+            return;
+        }
+        int index = Cells.index(x, y);
+        if (known[index] != UNKNOWN) {
+            identified[known[index]]--;
+            known[index] = UNKNOWN;
+            version++;
+        }
+        Arrays.fill(weights, index * TYPES.length, (index + 1) * TYPES.length, 0.0);
+        normVersions[index] = -1;
+    }
+
+    private void record(int event, int a, int b) {
+        long z = key ^ (((long) event << 48) | ((long) a << 32) | (b & 0xFFFFFFFFL));
+        z = (z ^ (z >>> 30)) * SALT;
+        z = (z ^ (z >>> 27)) * SALT2;
+        key = z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,98 @@
+package game.players;
+
+import game.BoardView;
+import game.Moves;
+import game.search.Ismcts;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * ISMCTS paralelizado na raiz: a cada jogada, {@code searches} buscas independentes rodam ao mesmo tempo no
+ * {@link ForkJoinPool}, cada uma com sua cópia do tabuleiro, sua árvore e seu gerador, e a jogada escolhida é
+ * a mais visitada somando as raízes de todas. As buscas só compartilham a {@link EnemyBeliefs}, que durante a
+ * busca é apenas lida, então o caminho quente não tem nenhuma disputa entre threads.
+ * <p>
+ * {@link #getPlayoutsPerSecond()} soma as simulações de todas as buscas sobre o tempo de parede da jogada.
+ */
+public class EnsembleIsmctsPlayer extends IsmctsPlayer {
+    private final int searches;
+    private final ForkJoinPool pool;
+
+    /**
+     * Uma busca por processador no pool comum.
+     */
+    public EnsembleIsmctsPlayer(String playerName, Duration budget) {
+        this(playerName, budget, 0, Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param maxPlayouts limite de simulações de cada busca por jogada, ou 0 para usar só o tempo
+     * @param searches    número de buscas independentes por jogada
+     * @param pool        pool onde as buscas rodam; não é encerrado pelo jogador
+     */
+    public EnsembleIsmctsPlayer(String playerName, Duration budget, long maxPlayouts, int searches, ForkJoinPool pool) {
+        super(playerName, budget, maxPlayouts);
+        if (searches <= 0) {
+            throw new IllegalArgumentException("Número de buscas deve ser positivo: " + searches);
+        }
+        this.searches = searches;
+        this.pool = pool;
+    }
+
+    public int getSearches() {
+        return searches;
+    }
+
+    @Override
+    protected int search(BoardView board, int[] moves, int count, long deadline) {
+        long start = System.nanoTime();
+
+        // Cópias e geradores são criados aqui, na thread da jogada, enquanto a visão ainda é válida
+        Ismcts[] trees = new Ismcts[searches];
+        for (int i = 0; i < searches; i++) {
+            trees[i] = newSearch(board, new SplittableRandom(random.nextLong()));
+        }
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[searches];
+        for (int i = 0; i < searches; i++) {
+            Ismcts tree = trees[i];
+            tasks[i] = pool.submit(() -> tree.run(deadline, getMaxPlayouts()));
+        }
+
+        long[] visits = new long[count];
+        int[] rootMoves = new int[Moves.MAX_MOVES];
+        int[] rootVisits = new int[Moves.MAX_MOVES];
+        long playouts = 0;
+        for (int i = 0; i < searches; i++) {
+            tasks[i].join();
+            playouts += trees[i].getPlayouts();
+            int size = trees[i].getRootVisits(rootMoves, rootVisits);
+            for (int j = 0; j < size; j++) {
+                int index = indexOf(moves, count, rootMoves[j]);
+                if (index >= 0) {
+                    visits[index] += rootVisits[j];
+                }
+            }
+        }
+        addSearchTime(playouts, System.nanoTime() - start);
+
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (visits[i] > visits[best]) {
+                best = i;
+            }
+        }
+        return moves[best];
+    }
+
+    private static int indexOf(int[] moves, int count, int move) {
+        for (int i = 0; i < count; i++) {
+            if (moves[i] == move) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
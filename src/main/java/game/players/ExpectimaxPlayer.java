@@ -0,0 +1,84 @@
+package game.players;
+
+import game.BoardView;
+import game.search.Expectimax;
+
+import java.time.Duration;
+
+/**
+ * Jogador que busca a jogada com {@link Expectimax}: alfa-beta com nós de acaso nos combates contra peças
+ * mascaradas, ponderados pela {@link EnemyBeliefs}, e aprofundamento iterativo até o tempo da jogada acabar.
+ * <p>
+ * Nós por segundo e a profundidade alcançada acumulam entre as jogadas, para que otimizações do motor de
+ * regras apareçam diretamente como busca mais profunda.
+ */
+public class ExpectimaxPlayer extends SearchPlayer {
+    private final int maxDepth;
+    private long nodes;
+    private long searchNanos;
+    private long searches;
+    private long depthSum;
+    private int lastDepth;
+
+    public ExpectimaxPlayer(String playerName, Duration budget) {
+        this(playerName, budget, Expectimax.MAX_DEPTH);
+    }
+
+    /**
+     * @param maxDepth profundidade máxima do aprofundamento iterativo; com um tempo folgado, a mesma semente
+     *                 reproduz a mesma partida.
+     */
+    public ExpectimaxPlayer(String playerName, Duration budget, int maxDepth) {
+        super(playerName, budget);
+        if (maxDepth <= 0 || maxDepth > Expectimax.MAX_DEPTH) {
+            throw new IllegalArgumentException("Profundidade deve estar entre 1 e " + Expectimax.MAX_DEPTH + ": " + maxDepth);
+        }
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    protected int search(BoardView board, int[] moves, int count, long deadline) {
+        long start = System.nanoTime();
+        Expectimax search = new Expectimax(board.copy(), getPlayerName(), board.getOpponentName(), beliefs::probability);
+        int best = search.search(moves, count, deadline, maxDepth);
+
+        nodes += search.getNodes();
+        searchNanos += System.nanoTime() - start;
+        searches++;
+        lastDepth = search.getCompletedDepth();
+        depthSum += lastDepth;
+        return best != Expectimax.NO_MOVE ? best : moves[0];
+    }
+
+    /**
+     * Nós visitados em todas as jogadas.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Tempo total de busca, em nanossegundos.
+     */
+    public long getSearchNanos() {
+        return searchNanos;
+    }
+
+    public double getNodesPerSecond() {
+        return searchNanos == 0 ? 0 : nodes * 1e9 / searchNanos;
+    }
+
+    /**
+     * Profundidade completada na última jogada buscada.
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    /**
+     * Profundidade completada média das jogadas buscadas.
+     */
+    public double getAverageDepth() {
+        return searches == 0 ? 0 : (double) depthSum / searches;
+    }
+}
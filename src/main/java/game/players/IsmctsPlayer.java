@@ -0,0 +1,79 @@
+package game.players;
+
+import game.BoardView;
+import game.search.Ismcts;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Jogador que busca a jogada com {@link Ismcts}: as peças adversárias são sorteadas a cada iteração conforme
+ * a {@link EnemyBeliefs} e as simulações rodam sobre uma única cópia do tabuleiro por jogada.
+ * <p>
+ * As simulações feitas e o tempo de busca acumulam entre as jogadas; {@link #getPlayoutsPerSecond()}
+ * serve para comparar otimizações do motor de regras.
+ */
+public class IsmctsPlayer extends SearchPlayer {
+    private final long maxPlayouts;
+    private long playouts;
+    private long searchNanos;
+
+    public IsmctsPlayer(String playerName, Duration budget) {
+        this(playerName, budget, 0);
+    }
+
+    /**
+     * @param maxPlayouts limite de simulações por jogada (além do tempo), ou 0 para usar só o tempo;
+     *                    com limite e um tempo folgado a mesma semente reproduz a mesma partida.
+     */
+    public IsmctsPlayer(String playerName, Duration budget, long maxPlayouts) {
+        super(playerName, budget);
+        this.maxPlayouts = maxPlayouts;
+    }
+
+    @Override
+    protected int search(BoardView board, int[] moves, int count, long deadline) {
+        long start = System.nanoTime();
+        Ismcts search = newSearch(board, random);
+        search.run(deadline, maxPlayouts);
+
+        addSearchTime(search.getPlayouts(), System.nanoTime() - start);
+        int best = search.bestMove();
+        return best != Ismcts.NO_MOVE ? best : moves[0];
+    }
+
+    /**
+     * Cria uma busca sobre uma cópia própria do tabuleiro, que sorteia as peças adversárias com {@code random}.
+     */
+    protected Ismcts newSearch(BoardView board, RandomGenerator random) {
+        String opponent = board.getOpponentName();
+        return new Ismcts(board.copy(), getPlayerName(), opponent, beliefs.determinizer(opponent), random);
+    }
+
+    protected long getMaxPlayouts() {
+        return maxPlayouts;
+    }
+
+    protected void addSearchTime(long playouts, long nanos) {
+        this.playouts += playouts;
+        this.searchNanos += nanos;
+    }
+
+    /**
+     * Simulações feitas em todas as jogadas.
+     */
+    public long getPlayouts() {
+        return playouts;
+    }
+
+    /**
+     * Tempo total de busca, em nanossegundos.
+     */
+    public long getSearchNanos() {
+        return searchNanos;
+    }
+
+    public double getPlayoutsPerSecond() {
+        return searchNanos == 0 ? 0 : playouts * 1e9 / searchNanos;
+    }
+}
@@ -1,13 +1,24 @@
 package game.players;
 
 import game.Board;
+import game.BoardView;
 import game.feedbacks.Feedback;
 import game.pieces.Piece;
 import game.pieces.PieceAction;
 
+import java.util.random.RandomGenerator;
+
 public interface Player {
     String getPlayerName();
 
+    /**
+     * Gerador aleatório do jogador, recebido do {@code Game} antes do {@link #setup}.
+     * Jogadores com decisões aleatórias devem usar apenas este gerador, para que a mesma semente
+     * reproduza a mesma partida.
+     */
+    default void setRandom(RandomGenerator random) {
+    }
+
     /**
      * Realiza a jogada inicial, posicionar as 40 peças nas 4 primeiras fileiras.
      * @param board o tabuleiro do jogo.
@@ -16,6 +27,7 @@ public interface Player {
 
     /**
      * Prepara uma jogada e retorna um objeto da jogada para ser executado pelo Board.
+     * @param board visão do tabuleiro com as peças adversárias mascaradas, válida apenas durante a chamada.
      */
-    PieceAction play(Board board, Feedback myLastFeedback, Feedback enemyLastFeedback);
+    PieceAction play(BoardView board, Feedback myLastFeedback, Feedback enemyLastFeedback);
 }
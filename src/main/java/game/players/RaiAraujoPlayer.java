@@ -1,36 +1,55 @@
 package game.players;
 
 import game.Board;
-import game.feedbacks.AttackFeedback;
-import game.feedbacks.DefeatFeedback;
-import game.feedbacks.EqualStrengthFeedback;
+import game.BoardView;
+import game.Cells;
+import game.Moves;
 import game.feedbacks.Feedback;
 import game.pieces.OpponentPiece;
 import game.pieces.Piece;
 import game.pieces.PieceAction;
 import game.pieces.PieceFactory;
 import game.pieces.QuantityPerPiece;
+import game.search.TranspositionTable;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.Stack;
+import java.util.random.RandomGenerator;
 
 public class RaiAraujoPlayer implements Player {
   private String playerName = "Raí Araujo";
   private int[] prisonerPosition;
   private Piece[][] setup = new Piece[4][10];
 
-  private Map<String, Double>[][] enemyProbabilities;
-  private Map<String, Integer> enemyPiecesRemaining;
+  private static final QuantityPerPiece[] TYPES = QuantityPerPiece.values();
+
+  // Probabilidade de cada tipo de peça inimiga em cada célula
+  private EnemyBeliefs beliefs;
 
   private Stack<Piece> recentPiecesPlayed = new Stack<Piece>();
   private Map<String, Integer> pieceStrength = new HashMap<>();
+  private final int[] strengthByType = new int[TYPES.length];
+
+  // Pontuações de jogadas já avaliadas, por posição vista + estado das probabilidades
+  private static final long MOVE_SALT = 0x9E3779B97F4A7C15L;
+  private final TranspositionTable scores;
+  private final int[] moves = new int[Moves.MAX_MOVES];
+  private RandomGenerator random = new SplittableRandom();
 
   public RaiAraujoPlayer() {
+    this(new TranspositionTable(1));
+  }
+
+  /**
+   * @param scores tabela de transposição compartilhada para reaproveitar avaliações entre jogadas e threads.
+   */
+  public RaiAraujoPlayer(TranspositionTable scores) {
+    this.scores = scores;
   }
 
   @Override
@@ -38,6 +57,11 @@ public class RaiAraujoPlayer implements Player {
     return this.playerName;
   }
 
+  @Override
+  public void setRandom(RandomGenerator random) {
+    this.random = random;
+  }
+
   @Override
   public Piece[][] setup(Board board) {
     List<String> pieces = generatePiecesList();
@@ -49,7 +73,6 @@ public class RaiAraujoPlayer implements Player {
     placeRemainingPieces(pieces, board);
 
     initEnemyKnowledge(board);
-    initEnemyPieces();
     initPieceStrength();
 
     return setup;
@@ -65,7 +88,7 @@ public class RaiAraujoPlayer implements Player {
 
   private void placePrisoner(List<String> pieces, Board board) {
     int prisonerRow = 3;
-    int prisonerCol = new Random().nextInt(10);
+    int prisonerCol = random.nextInt(10);
 
     prisonerPosition = new int[] { prisonerRow, prisonerCol };
     placePiece(pieces, "PS", prisonerRow, prisonerCol, board);
@@ -87,7 +110,7 @@ public class RaiAraujoPlayer implements Player {
 
   private void placeAgent(List<String> pieces, Board board) {
     int row = 2;
-    int col = new Random().nextInt(10);
+    int col = random.nextInt(10);
 
     placePiece(pieces, "AS", row, col, board);
     placePiece(pieces, "M", row - 1, col, board); // Coloca uma mina na frente do agente
@@ -100,14 +123,14 @@ public class RaiAraujoPlayer implements Player {
     for (int i = 0; i < 10; i++)
       columns.add(i);
 
-    Collections.shuffle(columns); // Embaralha as colunas para posicionamento aleatório
+    Collections.shuffle(columns, random); // Embaralha as colunas para posicionamento aleatório
 
     for (int col : columns)
       placePiece(pieces, "C", row, col, board);
   }
 
   private void placeRemainingPieces(List<String> pieces, Board board) {
-    Collections.shuffle(pieces);
+    Collections.shuffle(pieces, random);
 
     for (int row = 0; row < 4; row++) {
       for (int col = 0; col < 10; col++) {
@@ -148,234 +171,39 @@ public class RaiAraujoPlayer implements Player {
     pieceStrength.put("S", 2); // Soldado
     pieceStrength.put("AS", 1); // Agente Secreto (pode derrotar qualquer peça)
     pieceStrength.put("PS", 0); // Prisioneiro (não combate)
-  }
 
-  private void initEnemyPieces() {
-    enemyPiecesRemaining = new HashMap<>();
-    for (QuantityPerPiece piece : QuantityPerPiece.values()) {
-      enemyPiecesRemaining.put(piece.getCode(), piece.getQuantity());
-    }
-  }
-
-  @SuppressWarnings("unchecked")
-  private void initProbabilityGrid() {
-    enemyProbabilities = new HashMap[Board.ROWS][Board.COLS];
-
-    for (int x = 0; x < Board.ROWS; x++) {
-      for (int y = 0; y < Board.COLS; y++) {
-        enemyProbabilities[x][y] = new HashMap<String, Double>();
-      }
+    for (QuantityPerPiece type : TYPES) {
+      strengthByType[type.ordinal()] = pieceStrength.get(type.getCode());
     }
   }
 
   public void initEnemyKnowledge(Board board) {
-    // Cada celula tem um Hmap<String, Double> com as probabilidades de cada peça
-    initProbabilityGrid();
     // Se sou Player1, o inimigo está em 6..9; se Player2, 0..3
     String player1 = board.player1.getPlayerName();
-    int enemyStartRow = this.playerName.equals(player1) ? 6 : 0;
-    int enemyEndRow = this.playerName.equals(player1) ? 9 : 3;
-    double totalEnemy = 40.0;
-
-    for (int x = 0; x < Board.ROWS; x++) {
-      for (int y = 0; y < Board.COLS; y++) {
-        // Se for uma posição de lago ou fora do alcance do inimigo, zera
-        if (Board.isLake(x, y) || x < enemyStartRow || x > enemyEndRow) {
-          for (QuantityPerPiece qpp : QuantityPerPiece.values()) {
-            enemyProbabilities[x][y].put(qpp.getCode(), 0.0);
-          }
-        } else {
-          for (QuantityPerPiece qpp : QuantityPerPiece.values()) {
-            // na proporção de cada peça no total de 40
-            double prob = qpp.getQuantity() / totalEnemy;
-            enemyProbabilities[x][y].put(qpp.getCode(), prob);
-          }
-        }
-      }
-    }
+    beliefs = new EnemyBeliefs(this.playerName, this.playerName.equals(player1));
   }
 
   // Pega as infos dos feedbacks e atualiza as probs
   public void updateKnowledgeFromFeedback(Feedback feedback) {
-    if (feedback == null)
-      return;
-
-    if (feedback instanceof AttackFeedback atk) {
-      // AttackFeedback => o "attacker" venceu e se moveu de [fromX, fromY] para [toX,
-      // toY].
-      Piece attacker = atk.attacker;
-      Piece defender = atk.defender;
-      int fromX = atk.fromX;
-      int fromY = atk.fromY;
-      int toX = atk.toX;
-      int toY = atk.toY;
-
-      // 1) Se o inimigo perdeu (defender é inimigo), remover do board
-      if (isEnemyPiece(defender)) {
-        removeEnemyPieceFromBoard(defender);
-      }
-
-      // 2) Se attacker é o inimigo e quem venceu ,
-      // então na célula (toX, toY) tem 100% de chance de ser a peça do
-      // attacker.getRepresentation()
-      if (isEnemyPiece(attacker)) {
-        String code = attacker.getRepresentation();
-        // Seta a célula (toX, toY) para prob = 1.0(100%) desse code, e 0.0 dos demais
-        setCellDistribution(toX, toY, code);
-
-        // A célula (fromX, fromY) agora está vazia => zere as probabilidades ali
-        clearCellDistribution(fromX, fromY);
-      }
-    }
-
-    else if (feedback instanceof DefeatFeedback df) {
-      // DefeatFeedback => o "attacker" perdeu, "defender" ganhou e ficou na mesma
-      // célula.
-      Piece attacker = df.attacker; // perdeu
-      Piece defender = df.defender; // ganhou
-      int x = defender.getPosX();
-      int y = defender.getPosY();
-
-      // 1) Se o inimigo perdeu (attacker é inimigo)
-      if (isEnemyPiece(attacker)) {
-        removeEnemyPieceFromBoard(attacker);
-      }
-
-      // 2) Se o inimigo é quem ganhou (defender),
-      // definimos prob = 1.0 para "defender.getRepresentation()" naquela célula
-      if (isEnemyPiece(defender)) {
-        String code = defender.getRepresentation();
-        setCellDistribution(x, y, code);
-      }
-    }
-
-    else if (feedback instanceof EqualStrengthFeedback eq) {
-      // Ambos se eliminaram => se algum era inimigo, removemos do board
-      Piece p1 = eq.attacker;
-      Piece p2 = eq.defender;
-
-      if (isEnemyPiece(p1))
-        removeEnemyPieceFromBoard(p1);
-      if (isEnemyPiece(p2))
-        removeEnemyPieceFromBoard(p2);
-      // a celula fica vazia e decrementa 1 peça de cada time
-    }
-
-    // TODO: ver outros feedbacks insanos ai
-  }
-
-  /**
-   * “fixa” que (x, y) contém exatamente aquela peça e nenhuma outra.
-   */
-  private void setCellDistribution(int x, int y, String code) {
-    if (!Board.isValidPosition(x, y))
-      return;
-    Map<String, Double> cellDist = enemyProbabilities[x][y];
-    for (String c : cellDist.keySet()) {
-      if (c.equals(code)) {
-        cellDist.put(c, 1.0);
-      } else {
-        cellDist.put(c, 0.0);
-      }
-    }
+    beliefs.update(feedback);
   }
 
-  /**
-   * Exemplo de limpar a célula (x,y) => ficou vazia
-   */
-  private void clearCellDistribution(int x, int y) {
-    if (!Board.isValidPosition(x, y))
-      return;
-    Map<String, Double> cellDist = enemyProbabilities[x][y];
-    for (String c : cellDist.keySet()) {
-      cellDist.put(c, 0.0);
-    }
-  }
-
-  /**
-   * Remove a peça inimiga do board => se for destruída,
-   * zera a célula e decrementa 'enemyPiecesRemaining'.
-   */
-  private void removeEnemyPieceFromBoard(Piece piece) {
-    int px = piece.getPosX();
-    int py = piece.getPosY();
-    if (!Board.isValidPosition(px, py))
-      return;
-
-    String code = piece.getRepresentation();
-    // Decrementa do enemyPiecesRemaining
-    if (enemyPiecesRemaining.containsKey(code)) {
-      int old = enemyPiecesRemaining.get(code);
-      if (old > 0)
-        enemyPiecesRemaining.put(code, old - 1);
-    }
-    // Zera probabilidade na célula
-    clearCellDistribution(px, py);
-  }
-
-  private void updateEnemyProbabilities(Board board) {
-    for (int x = 0; x < Board.ROWS; x++) {
-      for (int y = 0; y < Board.COLS; y++) {
-        Piece boardPiece = board.getPiece(x, y);
-        // Pra cada tipo do player atualiza as probabilidades
-        for (QuantityPerPiece qpp : QuantityPerPiece.values()) {
-          // só atualiza se for diferente de 0
-          if (enemyProbabilities[x][y].get(qpp.getCode()) != 0) {
-            // reseta a probabilidade
-            enemyProbabilities[x][y].put(qpp.getCode(), 0.0);
-
-            if (boardPiece == null) // senão houver peça no mapa, não atualiza probabilidades
-              continue;
-            String code = qpp.getCode();
-            int remainingPiecesByCode = enemyPiecesRemaining.get(code);
-            double prob = remainingPiecesByCode / qpp.getQuantity();
-            enemyProbabilities[x][y].put(qpp.getCode(), prob);
-          }
-        }
-      }
-    }
-  }
-
-  private boolean isEnemyPiece(Piece piece) {
-    // Se a piece não for nula e o player != this.playerName
-    if (piece == null || piece.getPlayer() == null)
-      return false;
-    return !piece.getPlayer().equals(this.playerName);
-  }
-
-  /**
-   * Peça não é Bomba (M/B) nem Prisioneiro (PS).
-   */
-  private boolean isMovablePiece(Piece piece) {
-    if (piece == null)
-      return false;
-    String rep = piece.getRepresentation();
-    return !(rep.equals("M") || rep.equals("B") || rep.equals("PS"));
-  }
-
-  public PieceAction chooseMove(Board board) {
+  public PieceAction chooseMove(BoardView board) {
     double bestScore = Double.NEGATIVE_INFINITY;
     PieceAction bestAction = null;
 
-    for (int x = 0; x < Board.ROWS; x++) {
-      for (int y = 0; y < Board.COLS; y++) {
-        Piece piece = board.getPiece(x, y);
-        if (piece != null
-            && piece.getPlayer() != null
-            && piece.getPlayer().equals(this.playerName)
-            && isMovablePiece(piece) && checkRecentActions(piece)) {
-          int[][] dirs = { { -1, 0 }, { 1, 0 }, { 0, -1 }, { 0, 1 } };
-          for (int[] d : dirs) {
-            int nx = x + d[0];
-            int ny = y + d[1];
-            if (Board.isValidPosition(nx, ny)) {
-              double sc = scoreMove(piece, nx, ny, board);
-              if (sc > bestScore) {
-                bestScore = sc;
-                bestAction = new PieceAction(piece, nx, ny);
-              }
-            }
-          }
+    int count = board.generateMoves(moves);
+    for (int i = 0; i < count; i++) {
+      int from = Moves.from(moves[i]);
+      int to = Moves.to(moves[i]);
+      Piece piece = board.getPiece(Cells.row(from), Cells.col(from));
+      if (checkRecentActions(piece)) {
+        int nx = Cells.row(to);
+        int ny = Cells.col(to);
+        double sc = cachedScoreMove(piece, nx, ny, board);
+        if (sc > bestScore) {
+          bestScore = sc;
+          bestAction = new PieceAction(piece, nx, ny);
         }
       }
     }
@@ -401,12 +229,29 @@ public class RaiAraujoPlayer implements Player {
     return true;
   }
 
-  public double scoreMove(Piece myPiece, int tx, int ty, Board board) {
-    Piece occupant = board.getPiece(tx, ty);
+  /**
+   * scoreMove depende só da posição vista e das probabilidades, então a pontuação é reaproveitada
+   * da tabela enquanto nenhuma das duas mudar. A tabela guarda a pontuação em float, então ela é
+   * arredondada também quando calculada, para que a jogada escolhida não dependa de haver acerto na tabela.
+   */
+  private double cachedScoreMove(Piece myPiece, int tx, int ty, BoardView board) {
+    int move = Board.ROWS * Board.COLS * (myPiece.getPosX() * Board.COLS + myPiece.getPosY()) + tx * Board.COLS + ty;
+    long key = board.hash() ^ beliefs.getKey() ^ (MOVE_SALT * (move + 1));
 
+    long entry = scores.probe(key);
+    if (entry != TranspositionTable.MISS) {
+      return TranspositionTable.score(entry);
+    }
+
+    double score = scoreMove(myPiece, tx, ty, board);
+    scores.store(key, 0, TranspositionTable.EXACT, score, TranspositionTable.NO_MOVE);
+    return (float) score;
+  }
+
+  public double scoreMove(Piece myPiece, int tx, int ty, BoardView board) {
     // 1) Casa vazia => base 5 + 3 se "para frente" = máx 8
-    if (occupant == null) {
-      int forwardDir = (this.playerName.equals(board.player1.getPlayerName())) ? 1 : -1;
+    if (board.isEmpty(tx, ty)) {
+      int forwardDir = board.isPlayer1() ? 1 : -1;
       int toX = tx - myPiece.getPosX();
       int toY = ty - myPiece.getPosY();
       double bonus = (toX == forwardDir) || (toY == forwardDir) ? 3.0 : 0.0;
@@ -414,6 +259,7 @@ public class RaiAraujoPlayer implements Player {
     }
 
     // 2) occupant existe
+    Piece occupant = board.getPiece(tx, ty);
     if (occupant instanceof OpponentPiece) {
       // **Trata OpponentPiece como inimigo "desconhecido"**
       // => "scoreAttackUnknown(...)"
@@ -431,20 +277,15 @@ public class RaiAraujoPlayer implements Player {
     return -9999.0;
   }
 
-  private List<String> getStrongerCodes(String code) {
-    int myPieceStrength = pieceStrength.get(code);
-    List<String> strongers = new ArrayList<>();
-    for (var piece : pieceStrength.entrySet()) {
-      if (code == QuantityPerPiece.CORPORAL.getCode()
-          && piece.getKey() == QuantityPerPiece.LAND_MINE.getCode()) {
-        strongers.add(piece.getKey());
-      }
-
-      if (myPieceStrength >= piece.getValue()) {
-        strongers.add(piece.getKey());
-      }
+  /**
+   * Indica se {@code myType} vence ou empata com {@code enemyType} pela tabela de forças;
+   * o cabo também desarma minas.
+   */
+  private boolean isStronger(QuantityPerPiece myType, QuantityPerPiece enemyType) {
+    if (myType == QuantityPerPiece.CORPORAL && enemyType == QuantityPerPiece.LAND_MINE) {
+      return true;
     }
-    return strongers;
+    return strengthByType[myType.ordinal()] >= strengthByType[enemyType.ordinal()];
   }
 
   /**
@@ -453,24 +294,19 @@ public class RaiAraujoPlayer implements Player {
    * para pontuar o ataque.
    */
   private double scoreAttackUnknown(Piece myPiece, int tx, int ty) {
-    String code = myPiece.getRepresentation();
-    List<String> strongers = getStrongerCodes(code);
-    List<Double> probabilities = new ArrayList<>();
-
-    Map<String, Double> cellDist = enemyProbabilities[tx][ty];
-    for (var enemyPiece : cellDist.entrySet()) {
-      if (strongers.contains(enemyPiece.getKey()) && enemyPiece.getValue() > 0) {
-        probabilities.add(enemyPiece.getValue());
+    QuantityPerPiece myType = myPiece.getType();
+    double bestProbability = 0;
+    for (QuantityPerPiece enemyType : TYPES) {
+      double prob = beliefs.probability(tx, ty, enemyType);
+      if (prob > bestProbability && isStronger(myType, enemyType)) {
+        bestProbability = prob;
       }
     }
 
-    if (probabilities.isEmpty()) {
+    if (bestProbability == 0) {
       return 0;
     }
 
-    probabilities.sort(Collections.reverseOrder());
-    double bestProbability = probabilities.get(0);
-
     // Supõe chance de bomba de 20%
     double guessBomb = 0.2;
 
@@ -480,11 +316,10 @@ public class RaiAraujoPlayer implements Player {
   }
 
   @Override
-  public PieceAction play(Board board, Feedback myLastFeedback, Feedback enemyLastFeedback) {
+  public PieceAction play(BoardView board, Feedback myLastFeedback, Feedback enemyLastFeedback) {
     // Atualiza prob
     updateKnowledgeFromFeedback(myLastFeedback);
     updateKnowledgeFromFeedback(enemyLastFeedback);
-    updateEnemyProbabilities(board);
 
     // Tenta escolher jogada
     PieceAction action = chooseMove(board);
@@ -0,0 +1,119 @@
+package game.players;
+
+import game.Board;
+import game.BoardView;
+import game.Moves;
+import game.feedbacks.Feedback;
+import game.pieces.Piece;
+import game.pieces.PieceAction;
+import game.pieces.PieceFactory;
+import game.pieces.QuantityPerPiece;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Base dos jogadores que escolhem a jogada por busca: mantém a {@link EnemyBeliefs} a partir dos feedbacks,
+ * gera as jogadas legais e entrega à busca o prazo da jogada. O posicionamento inicial esconde o prisioneiro
+ * na última fileira cercado por minas e embaralha as demais peças.
+ */
+public abstract class SearchPlayer implements Player {
+    private final String playerName;
+    private final Duration budget;
+    private final int[] moves = new int[Moves.MAX_MOVES];
+    protected RandomGenerator random = new SplittableRandom();
+    protected EnemyBeliefs beliefs;
+
+    /**
+     * @param budget tempo de busca por jogada
+     */
+    protected SearchPlayer(String playerName, Duration budget) {
+        if (budget.isNegative()) {
+            throw new IllegalArgumentException("Tempo de busca não pode ser negativo: " + budget);
+        }
+        this.playerName = playerName;
+        this.budget = budget;
+    }
+
+    @Override
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    @Override
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    @Override
+    public Piece[][] setup(Board board) {
+        beliefs = null;
+        var result = new Piece[4][10];
+
+        // Fileira 3 do setup é a do fundo do tabuleiro para os dois jogadores
+        int prisonerCol = random.nextInt(10);
+        result[3][prisonerCol] = PieceFactory.createPiece(QuantityPerPiece.PRISONER.getCode(), playerName, board);
+        int[][] guards = {{2, prisonerCol}, {3, prisonerCol - 1}, {3, prisonerCol + 1}};
+
+        List<String> pieces = new ArrayList<>();
+        int mines = QuantityPerPiece.LAND_MINE.getQuantity();
+        for (int[] guard : guards) {
+            if (guard[1] >= 0 && guard[1] < 10) {
+                result[guard[0]][guard[1]] = PieceFactory.createPiece(QuantityPerPiece.LAND_MINE.getCode(), playerName, board);
+                mines--;
+            }
+        }
+        for (QuantityPerPiece piece : QuantityPerPiece.values()) {
+            int quantity = switch (piece) {
+                case PRISONER -> 0;
+                case LAND_MINE -> mines;
+                default -> piece.getQuantity();
+            };
+            pieces.addAll(Collections.nCopies(quantity, piece.getCode()));
+        }
+        Collections.shuffle(pieces, random);
+
+        int index = 0;
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 10; j++) {
+                if (result[i][j] == null) {
+                    result[i][j] = PieceFactory.createPiece(pieces.get(index++), playerName, board);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public PieceAction play(BoardView board, Feedback myLastFeedback, Feedback enemyLastFeedback) {
+        if (beliefs == null) {
+            beliefs = new EnemyBeliefs(playerName, board.isPlayer1());
+        }
+        beliefs.update(myLastFeedback);
+        beliefs.update(enemyLastFeedback);
+
+        int count = board.generateMoves(moves);
+        if (count == 0) {
+            return null;
+        }
+        if (count == 1) {
+            return board.toAction(moves[0]);
+        }
+        long deadline = System.nanoTime() + budget.toNanos();
+        return board.toAction(search(board, moves, count, deadline));
+    }
+
+    /**
+     * Escolhe uma das jogadas legais {@code moves[0..count)} (codificadas por {@link Moves}) até {@code deadline},
+     * em {@link System#nanoTime()}. {@link #beliefs} já inclui os feedbacks desta jogada.
+     */
+    protected abstract int search(BoardView board, int[] moves, int count, long deadline);
+}
@@ -1,6 +1,9 @@
 package game.players;
 
 import game.Board;
+import game.BoardView;
+import game.Cells;
+import game.Moves;
 import game.feedbacks.Feedback;
 import game.pieces.PieceAction;
 import game.pieces.PieceFactory;
@@ -8,6 +11,7 @@ import game.pieces.QuantityPerPiece;
 import game.pieces.Piece;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementação simples de um Player.
@@ -15,13 +19,22 @@ import java.util.*;
  * a primeira peça encontrada que pertença a ele para a direita (se possível).
  */
 public class SimplePlayer implements Player {
+    private static final int NO_MOVE = -1;
+
     private final String playerName;
+    private final int[] moves = new int[Moves.MAX_MOVES];
+    private RandomGenerator random = new SplittableRandom();
 
     @Override
     public String getPlayerName() {
         return this.playerName;
     }
 
+    @Override
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
     /**
      * Neste caso o nome foi passado como parâmetro a fins de teste,
      * mas nas outras implentações deve se retornado de forma fixa em "getPlayerName".
@@ -45,7 +58,7 @@ public class SimplePlayer implements Player {
                 piecesRepresentations.add(piece.getCode());
             }
         }
-        Collections.shuffle(piecesRepresentations);
+        Collections.shuffle(piecesRepresentations, random);
         int index = 0;
         for (int i = 0; i < 4; i++) {
             for (int j = 0; j < 10; j++) {
@@ -63,56 +76,75 @@ public class SimplePlayer implements Player {
      * - Se não for possível mover para frente, tenta mover para a esquerda ou direita,
      *   escolhendo a direção com menos peças aliadas na vizinhança da célula destino.
      * - Nunca move para trás.
+     * - Só considera as jogadas legais de {@link BoardView#generateMoves}, sem copiar peças.
      * @param board O tabuleiro oculto (com peças adversárias mascaradas).
      * @return Uma ação (PieceAction) com a peça escolhida e a posição destino.
      */
     @Override
-    public PieceAction play(Board board, Feedback myLastFeedback, Feedback enemyLastFeedback) {
+    public PieceAction play(BoardView board, Feedback myLastFeedback, Feedback enemyLastFeedback) {
         String playerName = getPlayerName();
         // Define a direção de "frente": para Player1 (+1 em X) e para Player2 (-1 em X)
         int forwardDir = playerName.equals("Player1") ? 1 : -1;
 
-        // Percorre o tabuleiro para encontrar peças deste jogador
-        for (int i = 0; i < Board.ROWS; i++) {
-            for (int j = 0; j < Board.COLS; j++) {
-                Piece piece = board.getPiece(i, j);
-                // Verifica se a peça não é nula e se o jogador da peça é válido e corresponde ao jogador atual
-                if (piece != null && piece.getPlayer() != null && piece.getPlayer().equals(playerName)) {
-                    // Tenta mover para frente
-                    int newX = piece.getPosX() + forwardDir;
-                    int newY = piece.getPosY();
-                    if (Board.isValidPosition(newX, newY)) {
-                        return new PieceAction(piece, newX, newY);
-                    }
+        // As jogadas legais saem agrupadas por casa de origem, na mesma ordem em que o tabuleiro é percorrido
+        int count = board.generateMoves(moves);
+        int start = 0;
+        while (start < count) {
+            int from = Moves.from(moves[start]);
+            int end = start;
+            while (end < count && Moves.from(moves[end]) == from) {
+                end++;
+            }
 
-                    // Se não conseguir mover para frente, tenta as laterais: esquerda e direita
-                    int[][] lateralDirs = { {0, -1}, {0, 1} };
-                    PieceAction chosenAction = null;
-                    int bestAllyCount = Integer.MAX_VALUE;
-
-                    for (int[] dir : lateralDirs) {
-                        newX = piece.getPosX();
-                        newY = piece.getPosY() + dir[1];
-                        if (Board.isValidPosition(newX, newY)) {
-                            // Conta aliados próximos à célula destino
-                            int allyCount = countAlliedNeighbors(newX, newY, board, playerName);
-                            if (allyCount < bestAllyCount) {
-                                bestAllyCount = allyCount;
-                                chosenAction = new PieceAction(piece, newX, newY);
-                            }
-                        }
-                    }
+            int x = Cells.row(from);
+            int y = Cells.col(from);
+            // Tenta mover para frente
+            if (containsMove(start, end, from, x + forwardDir, y)) {
+                return board.toAction(Moves.encode(x, y, x + forwardDir, y));
+            }
 
-                    if (chosenAction != null) {
-                        return chosenAction;
+            // Se não conseguir mover para frente, tenta as laterais: esquerda e direita
+            int[] lateralDirs = {-1, 1};
+            int chosenMove = NO_MOVE;
+            int bestAllyCount = Integer.MAX_VALUE;
+
+            for (int dir : lateralDirs) {
+                int newY = y + dir;
+                if (containsMove(start, end, from, x, newY)) {
+                    // Conta aliados próximos à célula destino
+                    int allyCount = countAlliedNeighbors(x, newY, board, playerName);
+                    if (allyCount < bestAllyCount) {
+                        bestAllyCount = allyCount;
+                        chosenMove = Moves.encode(x, y, x, newY);
                     }
                 }
             }
+
+            if (chosenMove != NO_MOVE) {
+                return board.toAction(chosenMove);
+            }
+            start = end;
         }
         // Se nenhuma jogada válida for encontrada, retorna null (pode ser tratado como "passa a vez")
         return null;
     }
 
+    /**
+     * Indica se a jogada de {@code from} para (toX, toY) está entre as jogadas legais {@code moves[start..end)}.
+     */
+    private boolean containsMove(int start, int end, int from, int toX, int toY) {
+        if (!Board.isValidPosition(toX, toY)) {
+            return false;
+        }
+        int move = Moves.encode(from, Cells.index(toX, toY));
+        for (int i = start; i < end; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Conta quantas peças aliadas estão nas células vizinhas da posição (x, y).
      * Considera as 8 células adjacentes.
@@ -123,18 +155,15 @@ public class SimplePlayer implements Player {
      * @param playerName Nome do jogador (para identificar peças aliadas).
      * @return Número de peças aliadas ao redor da célula (x, y).
      */
-    private int countAlliedNeighbors(int x, int y, Board board, String playerName) {
+    private int countAlliedNeighbors(int x, int y, BoardView board, String playerName) {
         int count = 0;
         for (int dx = -1; dx <= 1; dx++) {
             for (int dy = -1; dy <= 1; dy++) {
                 if (dx == 0 && dy == 0) continue; // ignora a própria célula
                 int nx = x + dx;
                 int ny = y + dy;
-                if (Board.isValidPosition(nx, ny)) {
-                    Piece neighbor = board.getPiece(nx, ny);
-                    if (neighbor != null && neighbor.getPlayer() != null && neighbor.getPlayer().equals(playerName)) {
-                        count++;
-                    }
+                if (Board.isValidPosition(nx, ny) && board.isOwn(nx, ny)) {
+                    count++;
                 }
             }
         }
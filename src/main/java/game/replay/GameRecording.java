@@ -0,0 +1,57 @@
+package game.replay;
+
+import game.ActionRecorder;
+import game.Board;
+import game.GameResult;
+import game.pieces.PieceAction;
+
+import java.util.Arrays;
+
+/**
+ * Gravação de uma partida em andamento: registrada no tabuleiro, acumula as jogadas e grava o registro
+ * completo no arquivo em {@link #finish(GameResult)}.
+ */
+public final class GameRecording implements ActionRecorder {
+    private final ReplayWriter writer;
+    private final String player1;
+    private final String player2;
+    private final byte[] setup1;
+    private final byte[] setup2;
+    private short[] plies = new short[256];
+    private int plyCount;
+    private int opener;
+
+    GameRecording(ReplayWriter writer, Board board) {
+        this.writer = writer;
+        this.player1 = board.player1.getPlayerName();
+        this.player2 = board.player2.getPlayerName();
+        this.setup1 = GameReplay.readSetup(board, 0);
+        this.setup2 = GameReplay.readSetup(board, Board.ROWS - GameReplay.SETUP_ROWS);
+    }
+
+    @Override
+    public void record(PieceAction action, int sideToMove) {
+        if (plyCount == 0) {
+            opener = sideToMove;
+        }
+        if (plyCount == plies.length) {
+            plies = Arrays.copyOf(plies, plyCount * 2);
+        }
+        plies[plyCount++] = GameReplay.encodePly(action);
+    }
+
+    /**
+     * Grava a partida com o resultado no arquivo do {@link ReplayWriter}.
+     */
+    public void finish(GameResult result) {
+        int winner = GameReplay.NO_WINNER;
+        if (player1.equals(result.winner())) {
+            winner = GameReplay.PLAYER1_WINNER;
+        } else if (player2.equals(result.winner())) {
+            winner = GameReplay.PLAYER2_WINNER;
+        }
+
+        writer.append(new GameReplay(player1, player2, setup1, setup2, result.reason(), winner, opener,
+                Arrays.copyOf(plies, plyCount)));
+    }
+}
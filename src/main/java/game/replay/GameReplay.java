@@ -0,0 +1,415 @@
+package game.replay;
+
+import game.Board;
+import game.Cells;
+import game.GameResult;
+import game.Moves;
+import game.feedbacks.Feedback;
+import game.pieces.Piece;
+import game.pieces.PieceAction;
+import game.pieces.PieceFactory;
+import game.pieces.QuantityPerPiece;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Uma partida gravada: nomes dos jogadores, setups, jogadas e resultado.
+ * <p>
+ * Formato binário de um registro (big-endian, precedido pelo tamanho em um int no arquivo):
+ * <pre>
+ * byte    versão do formato ({@link #FORMAT_VERSION})
+ * UTF     nome do Player1, nome do Player2
+ * 20 B    setup do Player1 (fileiras 0..3), 4 bits por casa
+ * 20 B    setup do Player2 (fileiras 6..9), 4 bits por casa
+ * byte    motivo do fim ({@link GameResult.Reason#ordinal()})
+ * byte    vencedor: 0 nenhum, 1 Player1, 2 Player2
+ * byte    quem abriu a partida: {@link Cells#PLAYER1} ou {@link Cells#PLAYER2} (versão 3)
+ * int     número de jogadas
+ * short[] jogadas: origem e destino como em {@link Moves}, ou {@link #PASS}
+ * int     número de keyframes (versão 2 em diante)
+ * 72 B    cada keyframe: o tabuleiro depois de {@link #KEYFRAME_INTERVAL}, 2 × {@link #KEYFRAME_INTERVAL}, ... jogadas
+ * </pre>
+ * Cada casa do setup guarda {@link Cells#typeCode} (0 = vazia). Destinos fora do tabuleiro são gravados
+ * como {@link #OFF_BOARD}; reproduzidos, têm o mesmo efeito no tabuleiro que a jogada original.
+ * <p>
+ * Um keyframe guarda o jogador da vez (byte), o histórico de repetição de cada jogador (byte com o tamanho
+ * e 3 bytes, da peça mais recente para a mais antiga: a casa da peça ou {@code 100 + i} para uma peça já
+ * capturada, onde {@code i} é a primeira posição dela no histórico), os tipos das 100 casas (4 bits por casa)
+ * e os donos (1 bit por casa). Registros da versão 1 não têm keyframes; eles são calculados na leitura. Nas
+ * versões 1 e 2, que não gravam quem abriu, ele é o dono da peça da primeira jogada (Player1 se ela passou a vez).
+ */
+public final class GameReplay {
+    public static final byte FORMAT_VERSION = 3;
+    public static final int KEYFRAME_INTERVAL = 256;
+    private static final int HISTORY_BYTES = 1 + Board.MAX_CONSECUTIVE_MOVES_SAME_PIECE;
+    private static final int TYPES_START = 1 + 2 * HISTORY_BYTES;
+    private static final int OWNERS_START = TYPES_START + Cells.SIZE / 2;
+    public static final int KEYFRAME_BYTES = OWNERS_START + (Cells.SIZE + 7) / 8;
+    public static final short PASS = (short) 0xFFFF;
+    public static final int OFF_BOARD = 0x7F;
+    public static final int NO_WINNER = 0;
+    public static final int PLAYER1_WINNER = 1;
+    public static final int PLAYER2_WINNER = 2;
+
+    static final int SETUP_ROWS = 4;
+    static final int SETUP_CELLS = SETUP_ROWS * Board.COLS;
+    static final int PACKED_SETUP_BYTES = SETUP_CELLS / 2;
+    private static final int DEAD_PIECE = Cells.SIZE;
+
+    private static final QuantityPerPiece[] TYPES = QuantityPerPiece.values();
+
+    private final String player1;
+    private final String player2;
+    private final byte[] setup1;
+    private final byte[] setup2;
+    private final GameResult.Reason reason;
+    private final int winner;
+    private final int opener;
+    private final short[] plies;
+    // Keyframes codificados; null até serem calculados reproduzindo as jogadas
+    private byte[][] keyframes;
+
+    GameReplay(String player1, String player2, byte[] setup1, byte[] setup2,
+               GameResult.Reason reason, int winner, int opener, short[] plies) {
+        this(player1, player2, setup1, setup2, reason, winner, opener, plies, null);
+    }
+
+    private GameReplay(String player1, String player2, byte[] setup1, byte[] setup2,
+                       GameResult.Reason reason, int winner, int opener, short[] plies, byte[][] keyframes) {
+        this.player1 = player1;
+        this.player2 = player2;
+        this.setup1 = setup1;
+        this.setup2 = setup2;
+        this.reason = reason;
+        this.winner = winner;
+        this.opener = opener;
+        this.plies = plies;
+        this.keyframes = keyframes;
+    }
+
+    public String getPlayer1() {
+        return player1;
+    }
+
+    public String getPlayer2() {
+        return player2;
+    }
+
+    public GameResult.Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * Nome do vencedor ou null se a partida não teve vencedor.
+     */
+    public String getWinner() {
+        return switch (winner) {
+            case PLAYER1_WINNER -> player1;
+            case PLAYER2_WINNER -> player2;
+            default -> null;
+        };
+    }
+
+    /**
+     * Quem fez a primeira jogada, {@link Cells#PLAYER1} ou {@link Cells#PLAYER2}.
+     */
+    public int getOpener() {
+        return opener;
+    }
+
+    public int getPlyCount() {
+        return plies.length;
+    }
+
+    public short getPly(int ply) {
+        return plies[ply];
+    }
+
+    /**
+     * Monta o tabuleiro com os dois setups e {@link #getOpener()} na vez, antes da primeira jogada. Os
+     * jogadores do tabuleiro só carregam os nomes gravados e não sabem jogar.
+     */
+    public Board initialBoard() {
+        Board board = setupBoard(player1, player2, setup1, setup2);
+        board.setSideToMove(opener);
+        return board;
+    }
+
+    private static Board setupBoard(String player1, String player2, byte[] setup1, byte[] setup2) {
+        Board board = new Board();
+        board.player1 = new RecordedPlayer(player1);
+        board.player2 = new RecordedPlayer(player2);
+        placeSetup(board, setup1, 0, player1);
+        placeSetup(board, setup2, Board.ROWS - SETUP_ROWS, player2);
+        return board;
+    }
+
+    /**
+     * Quem abriu um registro anterior à versão 3: o dono da peça movida na primeira jogada.
+     */
+    private static int inferOpener(String player1, String player2, byte[] setup1, byte[] setup2, short[] plies) {
+        if (plies.length == 0 || plies[0] == PASS) {
+            return Cells.PLAYER1;
+        }
+        int from = Moves.from(plies[0] & 0xFFFF);
+        byte cell = setupBoard(player1, player2, setup1, setup2).getCell(Cells.row(from), Cells.col(from));
+        return Cells.isEmpty(cell) ? Cells.PLAYER1 : Cells.owner(cell);
+    }
+
+    /**
+     * Tabuleiro depois de {@code ply} jogadas (0 é a posição com os setups), reproduzindo apenas as
+     * jogadas desde o keyframe anterior. O tabuleiro retornado é novo e pode ser alterado livremente.
+     */
+    public Board boardAt(int ply) {
+        if (ply < 0 || ply > plies.length) {
+            throw new IndexOutOfBoundsException("Jogada " + ply + " fora da partida de " + plies.length + " jogadas");
+        }
+
+        int frame = ply / KEYFRAME_INTERVAL;
+        Board board = frame == 0 ? initialBoard() : decodeKeyframe(keyframes()[frame - 1], frame * KEYFRAME_INTERVAL);
+        for (int current = frame * KEYFRAME_INTERVAL; current < ply; current++) {
+            applyPly(board, plies[current]);
+        }
+        return board;
+    }
+
+    private synchronized byte[][] keyframes() {
+        if (keyframes == null) {
+            byte[][] frames = new byte[plies.length / KEYFRAME_INTERVAL][];
+            Board board = initialBoard();
+            for (int ply = 0; ply < frames.length * KEYFRAME_INTERVAL; ply++) {
+                applyPly(board, plies[ply]);
+                if ((ply + 1) % KEYFRAME_INTERVAL == 0) {
+                    frames[ply / KEYFRAME_INTERVAL] = encodeKeyframe(board);
+                }
+            }
+            keyframes = frames;
+        }
+        return keyframes;
+    }
+
+    private static byte[] encodeKeyframe(Board board) {
+        byte[] frame = new byte[KEYFRAME_BYTES];
+        int position = 0;
+        frame[position++] = (byte) board.getSideToMove();
+
+        int[] history = new int[Board.MAX_CONSECUTIVE_MOVES_SAME_PIECE];
+        for (int owner = Cells.PLAYER1; owner <= Cells.PLAYER2; owner++) {
+            int size = board.getLastPiecesPlayed(owner, history);
+            frame[position++] = (byte) size;
+            for (int i = 0; i < Board.MAX_CONSECUTIVE_MOVES_SAME_PIECE; i++) {
+                frame[position++] = (byte) (i < size ? historyEntry(board, history, i) : 0);
+            }
+        }
+
+        for (int i = 0; i < Cells.SIZE; i += 2) {
+            byte first = board.getCell(Cells.row(i), Cells.col(i));
+            byte second = board.getCell(Cells.row(i + 1), Cells.col(i + 1));
+            frame[position++] = (byte) ((Cells.typeCode(first) << 4) | Cells.typeCode(second));
+        }
+        for (int i = 0; i < Cells.SIZE; i++) {
+            byte cell = board.getCell(Cells.row(i), Cells.col(i));
+            if (!Cells.isEmpty(cell) && Cells.owner(cell) == Cells.PLAYER2) {
+                frame[OWNERS_START + i / 8] |= (byte) (1 << (i % 8));
+            }
+        }
+        return frame;
+    }
+
+    /**
+     * Casa da peça {@code history[i]} ou, se ela já saiu do tabuleiro, {@link #DEAD_PIECE} mais a primeira
+     * posição do mesmo id no histórico, para que repetições da mesma peça continuem iguais.
+     */
+    private static int historyEntry(Board board, int[] history, int i) {
+        int id = history[i];
+        for (int index = 0; index < Cells.SIZE; index++) {
+            Piece piece = board.getPiece(Cells.row(index), Cells.col(index));
+            if (piece != null && piece.getId() == id) {
+                return index;
+            }
+        }
+        int first = 0;
+        while (history[first] != id) {
+            first++;
+        }
+        return DEAD_PIECE + first;
+    }
+
+    private Board decodeKeyframe(byte[] frame, int ply) {
+        Board board = new Board();
+        board.player1 = new RecordedPlayer(player1);
+        board.player2 = new RecordedPlayer(player2);
+
+        for (int i = 0; i < Cells.SIZE; i++) {
+            int packed = frame[TYPES_START + i / 2] & 0xFF;
+            int code = i % 2 == 0 ? packed >> 4 : packed & 0x0F;
+            if (code != Cells.EMPTY) {
+                boolean second = (frame[OWNERS_START + i / 8] & (1 << (i % 8))) != 0;
+                String player = second ? player2 : player1;
+                board.setPiece(Cells.row(i), Cells.col(i), PieceFactory.createPiece(TYPES[code - 1].getCode(), player, board));
+            }
+        }
+
+        int position = 1;
+        for (int owner = Cells.PLAYER1; owner <= Cells.PLAYER2; owner++) {
+            int size = frame[position];
+            String player = owner == Cells.PLAYER1 ? player1 : player2;
+            Piece[] dead = new Piece[Board.MAX_CONSECUTIVE_MOVES_SAME_PIECE];
+            // O histórico é refeito da peça mais antiga para a mais recente
+            for (int i = size - 1; i >= 0; i--) {
+                int entry = frame[position + 1 + i];
+                Piece piece;
+                if (entry < DEAD_PIECE) {
+                    piece = board.getPiece(Cells.row(entry), Cells.col(entry));
+                } else {
+                    int first = entry - DEAD_PIECE;
+                    if (dead[first] == null) {
+                        dead[first] = PieceFactory.createPiece(TYPES[0].getCode(), player, board);
+                    }
+                    piece = dead[first];
+                }
+                board.addLastPiecesPlayed(piece);
+            }
+            position += HISTORY_BYTES;
+        }
+
+        board.numberMoves = ply;
+        board.setSideToMove(frame[0]);
+        return board;
+    }
+
+    private static void placeSetup(Board board, byte[] setup, int firstRow, String player) {
+        for (int i = 0; i < SETUP_CELLS; i++) {
+            int code = setup[i];
+            if (code != Cells.EMPTY) {
+                int x = firstRow + i / Board.COLS;
+                int y = i % Board.COLS;
+                board.setPiece(x, y, PieceFactory.createPiece(TYPES[code - 1].getCode(), player, board));
+            }
+        }
+    }
+
+    /**
+     * Executa a jogada {@code ply} no tabuleiro com {@link Board#executeAction}.
+     */
+    public static Feedback applyPly(Board board, short ply) {
+        if (ply == PASS) {
+            return board.executeAction(null);
+        }
+
+        int from = Moves.from(ply & 0xFFFF);
+        int to = Moves.to(ply & 0xFFFF);
+        int fromX = Cells.row(from);
+        int fromY = Cells.col(from);
+        int toX = to == OFF_BOARD ? -1 : Cells.row(to);
+        int toY = to == OFF_BOARD ? -1 : Cells.col(to);
+        // Sem peça na origem o tabuleiro só conta a jogada, como na partida original
+        return board.executeAction(new PieceAction(board.getPiece(fromX, fromY), toX, toY));
+    }
+
+    /**
+     * Codifica a ação como gravada no replay.
+     */
+    static short encodePly(PieceAction action) {
+        if (action == null || action.getPiece() == null) {
+            return PASS;
+        }
+
+        int fromX = action.getPiece().getPosX();
+        int fromY = action.getPiece().getPosY();
+        if (!Board.isValidPosition(fromX, fromY)) {
+            // Origem fora do tabuleiro ou em um lago não altera o tabuleiro, assim como passar a vez
+            return PASS;
+        }
+        int toX = action.getNewPosX();
+        int toY = action.getNewPosY();
+        boolean inside = toX >= 0 && toX < Board.ROWS && toY >= 0 && toY < Board.COLS;
+        int to = inside ? Cells.index(toX, toY) : OFF_BOARD;
+        return (short) Moves.encode(Cells.index(fromX, fromY), to);
+    }
+
+    /**
+     * Lê as casas das fileiras do setup de um jogador.
+     */
+    static byte[] readSetup(Board board, int firstRow) {
+        byte[] setup = new byte[SETUP_CELLS];
+        for (int i = 0; i < SETUP_CELLS; i++) {
+            setup[i] = (byte) Cells.typeCode(board.getCell(firstRow + i / Board.COLS, i % Board.COLS));
+        }
+        return setup;
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+        out.writeUTF(player1);
+        out.writeUTF(player2);
+        writeSetup(out, setup1);
+        writeSetup(out, setup2);
+        out.writeByte(reason.ordinal());
+        out.writeByte(winner);
+        out.writeByte(opener);
+        out.writeInt(plies.length);
+        for (short ply : plies) {
+            out.writeShort(ply);
+        }
+        byte[][] frames = keyframes();
+        out.writeInt(frames.length);
+        for (byte[] frame : frames) {
+            out.write(frame);
+        }
+    }
+
+    /**
+     * Lê um registro escrito por {@link ReplayWriter} (sem o int de tamanho que o precede no arquivo).
+     */
+    public static GameReplay read(DataInput in) throws IOException {
+        int version = in.readByte();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IOException("Versão de replay não suportada: " + version);
+        }
+        String player1 = in.readUTF();
+        String player2 = in.readUTF();
+        byte[] setup1 = readSetup(in);
+        byte[] setup2 = readSetup(in);
+        GameResult.Reason reason = GameResult.Reason.values()[in.readByte()];
+        int winner = in.readByte();
+        int opener = version >= 3 ? in.readByte() : -1;
+        short[] plies = new short[in.readInt()];
+        for (int i = 0; i < plies.length; i++) {
+            plies[i] = in.readShort();
+        }
+        if (opener < 0) {
+            opener = inferOpener(player1, player2, setup1, setup2, plies);
+        }
+        byte[][] keyframes = null;
+        if (version >= 2) {
+            int count = in.readInt();
+            if (count != plies.length / KEYFRAME_INTERVAL) {
+                throw new IOException("Replay com " + count + " keyframes para " + plies.length + " jogadas");
+            }
+            keyframes = new byte[count][KEYFRAME_BYTES];
+            for (byte[] frame : keyframes) {
+                in.readFully(frame);
+            }
+        }
+        return new GameReplay(player1, player2, setup1, setup2, reason, winner, opener, plies, keyframes);
+    }
+
+    private static void writeSetup(DataOutput out, byte[] setup) throws IOException {
+        for (int i = 0; i < SETUP_CELLS; i += 2) {
+            out.writeByte((setup[i] << 4) | setup[i + 1]);
+        }
+    }
+
+    private static byte[] readSetup(DataInput in) throws IOException {
+        byte[] setup = new byte[SETUP_CELLS];
+        for (int i = 0; i < SETUP_CELLS; i += 2) {
+            int packed = in.readUnsignedByte();
+            setup[i] = (byte) (packed >> 4);
+            setup[i + 1] = (byte) (packed & 0x0F);
+        }
+        return setup;
+    }
+}
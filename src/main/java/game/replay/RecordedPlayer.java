@@ -0,0 +1,34 @@
+package game.replay;
+
+import game.Board;
+import game.BoardView;
+import game.feedbacks.Feedback;
+import game.pieces.Piece;
+import game.pieces.PieceAction;
+import game.players.Player;
+
+/**
+ * Jogador de um tabuleiro reconstruído de um replay: só identifica o dono das peças pelo nome.
+ */
+final class RecordedPlayer implements Player {
+    private final String playerName;
+
+    RecordedPlayer(String playerName) {
+        this.playerName = playerName;
+    }
+
+    @Override
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    @Override
+    public Piece[][] setup(Board board) {
+        throw new UnsupportedOperationException("Jogador de replay não posiciona peças");
+    }
+
+    @Override
+    public PieceAction play(BoardView board, Feedback myLastFeedback, Feedback enemyLastFeedback) {
+        throw new UnsupportedOperationException("Jogador de replay não escolhe jogadas");
+    }
+}
@@ -0,0 +1,105 @@
+package game.replay;
+
+import game.Board;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Leitura com acesso aleatório de um arquivo escrito por {@link ReplayWriter}.
+ * <p>
+ * O arquivo é mapeado em memória e indexado na abertura (posição de cada partida). As partidas são
+ * decodificadas sob demanda, e só as {@link #CACHED_GAMES} usadas mais recentemente ficam em memória.
+ * Cada registro traz o tabuleiro a cada {@link #KEYFRAME_INTERVAL} jogadas, então {@link #boardAt(int, int)}
+ * só reproduz, com {@link Board#executeAction}, as jogadas desde o keyframe anterior. Arquivos de até 2 GB.
+ */
+public final class ReplayReader {
+    public static final int KEYFRAME_INTERVAL = GameReplay.KEYFRAME_INTERVAL;
+    public static final int CACHED_GAMES = 64;
+
+    private final MappedByteBuffer buffer;
+    private final int[] offsets;
+    private final int gameCount;
+    private final Map<Integer, GameReplay> games = new LinkedHashMap<>(CACHED_GAMES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, GameReplay> eldest) {
+            return size() > CACHED_GAMES;
+        }
+    };
+
+    public ReplayReader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Arquivo de replay maior que 2 GB: " + file);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        int[] index = new int[16];
+        int count = 0;
+        int position = 0;
+        while (position + Integer.BYTES <= buffer.limit()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + Integer.BYTES + length > buffer.limit()) {
+                // Registro incompleto no fim (gravação interrompida): ignora
+                break;
+            }
+            if (count == index.length) {
+                index = Arrays.copyOf(index, count * 2);
+            }
+            index[count++] = position;
+            position += Integer.BYTES + length;
+        }
+
+        this.offsets = index;
+        this.gameCount = count;
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Decodifica a partida {@code game} (0 é a primeira gravada).
+     */
+    public synchronized GameReplay getGame(int game) {
+        checkGame(game);
+        GameReplay replay = games.get(game);
+        if (replay == null) {
+            int offset = offsets[game];
+            byte[] record = new byte[buffer.getInt(offset)];
+            buffer.get(offset + Integer.BYTES, record);
+            try {
+                replay = GameReplay.read(new DataInputStream(new ByteArrayInputStream(record)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            games.put(game, replay);
+        }
+        return replay;
+    }
+
+    /**
+     * Tabuleiro da partida {@code game} depois de {@code ply} jogadas (0 é a posição com os setups).
+     * O tabuleiro retornado é uma cópia e pode ser alterado livremente.
+     */
+    public Board boardAt(int game, int ply) {
+        return getGame(game).boardAt(ply);
+    }
+
+    private void checkGame(int game) {
+        if (game < 0 || game >= gameCount) {
+            throw new IndexOutOfBoundsException("Partida " + game + " fora do arquivo de " + gameCount + " partidas");
+        }
+    }
+}
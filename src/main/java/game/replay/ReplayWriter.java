@@ -0,0 +1,60 @@
+package game.replay;
+
+import game.Board;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Arquivo de replays, apenas com acréscimos: cada partida é gravada inteira, como um int com o tamanho
+ * seguido do registro descrito em {@link GameReplay}. Pode ser compartilhado por partidas simultâneas;
+ * os registros nunca se intercalam.
+ */
+public final class ReplayWriter implements AutoCloseable {
+    private final FileChannel channel;
+
+    public ReplayWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Começa a gravar uma partida cujo tabuleiro já tem os setups dos dois jogadores.
+     * A gravação deve ser registrada no tabuleiro com {@link Board#setActionRecorder}.
+     */
+    public GameRecording startGame(Board board) {
+        return new GameRecording(this, board);
+    }
+
+    void append(GameReplay replay) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128 + replay.getPlyCount() * Short.BYTES);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0); // tamanho, preenchido abaixo
+            replay.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        buffer.putInt(0, buffer.capacity() - Integer.BYTES);
+        synchronized (this) {
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
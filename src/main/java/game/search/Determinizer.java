@@ -0,0 +1,19 @@
+package game.search;
+
+import game.Board;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Sorteia uma identidade para as peças adversárias mascaradas de um tabuleiro, tornando-o uma posição
+ * de informação completa sobre a qual a busca pode simular jogadas.
+ */
+@FunctionalInterface
+public interface Determinizer {
+    /**
+     * Troca as peças adversárias de {@code board} por peças com tipo. Pode ser chamado de novo sobre o
+     * mesmo tabuleiro para sortear outra identidade. Implementações podem guardar memória de trabalho entre
+     * sorteios, então buscas paralelas usam uma instância cada, com o seu tabuleiro e gerador.
+     */
+    void determinize(Board board, RandomGenerator random);
+}
@@ -0,0 +1,407 @@
+package game.search;
+
+import game.Board;
+import game.Cells;
+import game.MoveUndo;
+import game.Moves;
+import game.feedbacks.PrisonerFeedback;
+import game.pieces.CombatTable;
+import game.pieces.Piece;
+import game.pieces.PieceFactory;
+import game.pieces.QuantityPerPiece;
+
+import java.util.Arrays;
+
+/**
+ * Busca expectimax em profundidade limitada com poda alfa-beta e aprofundamento iterativo.
+ * <p>
+ * Os nós de jogador são negamax com alfa-beta. Quando uma jogada envolve combate com uma peça adversária
+ * mascarada, ela vira um nó de acaso: a peça recebe cada tipo possível, com o peso dado pela {@link TypeBelief}
+ * na posição inicial (que acompanha a peça quando ela se move na busca), e o combate é resolvido pela
+ * {@link CombatTable} do próprio tabuleiro. Tipos que levam ao mesmo resultado e não deixam a peça viva são
+ * agrupados em um único ramo. Os nós de acaso são podados pelo Star1, usando os limites {@code [-WIN, WIN]}
+ * da avaliação. As jogadas são feitas com {@link Board#makeMove} e desfeitas em seguida, sem copiar o tabuleiro.
+ */
+public final class Expectimax {
+    public static final int NO_MOVE = -1;
+    /**
+     * Valor de vitória; as avaliações de posições não terminais ficam sempre bem dentro de (-WIN, WIN).
+     */
+    public static final double WIN = 10_000;
+    public static final int MAX_DEPTH = 64;
+
+    private static final int CHECK_INTERVAL = 1024;
+    // Bônus por fileira avançada de cada peça móvel: os exércitos começam fora do alcance da busca
+    private static final double ADVANCE_WEIGHT = 0.1;
+    private static final QuantityPerPiece[] TYPES = QuantityPerPiece.values();
+    private static final double[] PRIOR = new double[TYPES.length];
+
+    static {
+        for (QuantityPerPiece type : TYPES) {
+            PRIOR[type.ordinal()] = type.getQuantity();
+        }
+    }
+
+    private final Board board;
+    private final String[] players;
+    private final int owner;
+    // Distribuição de tipo e material esperado das peças mascaradas, pelo id da peça
+    private final double[][] distributions;
+    private final double[] expectedValues;
+
+    private final int[][] moves = new int[MAX_DEPTH + 1][];
+    private final int[][] chanceKeys = new int[MAX_DEPTH + 1][];
+    private final int[][] chanceTypes = new int[MAX_DEPTH + 1][];
+    private final double[][] chanceWeights = new double[MAX_DEPTH + 1][];
+    // Peças que substituem as mascaradas nos nós de acaso, por ply e tipo; criadas uma vez por busca
+    private final Piece[][] standIns = new Piece[MAX_DEPTH + 1][];
+
+    private long deadline;
+    private boolean timeUp;
+    private long nodes;
+    private int completedDepth;
+
+    /**
+     * @param board    cópia do tabuleiro com {@code player} na vez e as peças adversárias mascaradas;
+     *                 é alterada durante a busca e volta à posição inicial ao fim
+     * @param belief   distribuição do tipo de cada peça mascarada em {@code board}
+     */
+    public Expectimax(Board board, String player, String opponent, TypeBelief belief) {
+        this.board = board;
+        this.players = new String[] {player, opponent};
+        this.owner = board.ownerOf(player);
+
+        int maxId = -1;
+        for (int i = 0; i < Cells.SIZE; i++) {
+            Piece piece = board.getPiece(Cells.row(i), Cells.col(i));
+            if (piece != null && piece.getType() == null) {
+                maxId = Math.max(maxId, piece.getId());
+            }
+        }
+        distributions = new double[maxId + 1][];
+        expectedValues = new double[maxId + 1];
+        for (int i = 0; i < Cells.SIZE; i++) {
+            int x = Cells.row(i);
+            int y = Cells.col(i);
+            Piece piece = board.getPiece(x, y);
+            if (piece == null || piece.getType() != null || piece.getId() < 0) {
+                continue;
+            }
+            double[] distribution = new double[TYPES.length];
+            double total = 0;
+            for (QuantityPerPiece type : TYPES) {
+                distribution[type.ordinal()] = belief.probability(x, y, type);
+                total += distribution[type.ordinal()];
+            }
+            if (total <= 0) {
+                // Crença sem informação sobre a peça: usa a proporção inicial das peças
+                distribution = PRIOR.clone();
+                total = 40;
+            }
+            double expected = 0;
+            for (int type = 0; type < TYPES.length; type++) {
+                distribution[type] /= total;
+                expected += distribution[type] * value(type);
+            }
+            distributions[piece.getId()] = distribution;
+            expectedValues[piece.getId()] = expected;
+        }
+    }
+
+    /**
+     * Aprofunda a busca de 1 até {@code maxDepth} jogadas enquanto houver tempo e retorna a melhor jogada da
+     * última profundidade completa (ou a melhor encontrada até o prazo, se nem a primeira terminou).
+     *
+     * @param rootMoves jogadas legais da posição inicial, codificadas por {@link Moves}
+     * @param deadline  prazo em {@link System#nanoTime()}
+     */
+    public int search(int[] rootMoves, int count, long deadline, int maxDepth) {
+        if (count == 0) {
+            return NO_MOVE;
+        }
+        this.deadline = deadline;
+        this.timeUp = false;
+        this.completedDepth = 0;
+
+        int[] order = Arrays.copyOf(rootMoves, count);
+        int best = order[0];
+        for (int depth = 1; depth <= Math.min(maxDepth, MAX_DEPTH); depth++) {
+            double alpha = -WIN;
+            int depthBest = NO_MOVE;
+            for (int i = 0; i < count; i++) {
+                double value = moveValue(order[i], depth, alpha, WIN, 0, 0);
+                if (timeUp) {
+                    break;
+                }
+                if (depthBest == NO_MOVE || value > alpha) {
+                    alpha = value;
+                    depthBest = order[i];
+                }
+            }
+            if (timeUp) {
+                if (completedDepth == 0 && depthBest != NO_MOVE) {
+                    best = depthBest;
+                }
+                break;
+            }
+
+            best = depthBest;
+            completedDepth = depth;
+            // A melhor jogada é a primeira da próxima iteração, o que aperta a janela mais cedo
+            int index = indexOf(order, count, best);
+            System.arraycopy(order, 0, order, 1, index);
+            order[0] = best;
+            if (Math.abs(alpha) >= WIN - MAX_DEPTH) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Nós visitados em todas as chamadas de {@link #search}.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Maior profundidade completada na última chamada de {@link #search}.
+     */
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    private double negamax(int depth, double alpha, double beta, int side, int ply) {
+        if ((++nodes & (CHECK_INTERVAL - 1)) == 0 && System.nanoTime() > deadline) {
+            timeUp = true;
+        }
+        if (timeUp) {
+            return 0;
+        }
+        if (depth == 0) {
+            return evaluate(side);
+        }
+
+        int[] buffer = moves[ply];
+        if (buffer == null) {
+            buffer = moves[ply] = new int[Moves.MAX_MOVES];
+        }
+        int count = board.generateMoves(players[side], buffer);
+        if (count == 0) {
+            return -(WIN - ply);
+        }
+        orderCapturesFirst(buffer, count);
+
+        double best = -WIN;
+        for (int i = 0; i < count; i++) {
+            double value = moveValue(buffer[i], depth, alpha, beta, side, ply);
+            if (timeUp) {
+                return 0;
+            }
+            if (value > best) {
+                best = value;
+                if (value > alpha) {
+                    alpha = value;
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Valor da jogada para quem a faz; vira nó de acaso se ela é um combate com uma peça mascarada.
+     */
+    private double moveValue(int move, int depth, double alpha, double beta, int side, int ply) {
+        int from = Moves.from(move);
+        int to = Moves.to(move);
+        Piece mover = board.getPiece(Cells.row(from), Cells.col(from));
+        Piece target = board.getPiece(Cells.row(to), Cells.col(to));
+        if (target == null || (mover.getType() != null && target.getType() != null)) {
+            return play(move, depth, alpha, beta, side, ply);
+        }
+
+        boolean hiddenAttacks = mover.getType() == null;
+        Piece hidden = hiddenAttacks ? mover : target;
+        int known = (hiddenAttacks ? target : mover).getType().ordinal();
+        int groups = group(distribution(hidden), hiddenAttacks, known, ply);
+        if (groups == 0) {
+            groups = group(PRIOR, hiddenAttacks, known, ply);
+        }
+
+        double[] weights = chanceWeights[ply];
+        double total = 0;
+        for (int g = 0; g < groups; g++) {
+            total += weights[g];
+        }
+
+        // Star1: o valor final é sum + p * v + (massa restante) * [-WIN, WIN]
+        double sum = 0;
+        double remaining = 1;
+        for (int g = 0; g < groups; g++) {
+            double p = weights[g] / total;
+            remaining = Math.max(0, remaining - p);
+            double childAlpha = Math.max(-WIN, (alpha - sum - remaining * WIN) / p);
+            double childBeta = Math.min(WIN, (beta - sum + remaining * WIN) / p);
+
+            double value = playAs(hidden, chanceTypes[ply][g], move, depth, childAlpha, childBeta, side, ply);
+            if (timeUp) {
+                return 0;
+            }
+            if (sum + p * value - remaining * WIN >= beta) {
+                return beta;
+            }
+            if (sum + p * value + remaining * WIN <= alpha) {
+                return alpha;
+            }
+            sum += p * value;
+        }
+        return sum;
+    }
+
+    /**
+     * Agrupa os tipos possíveis da peça mascarada pelo resultado do combate; tipos em que ela sobrevive
+     * ficam em ramos separados, porque a posição seguinte depende do tipo. Retorna o número de ramos.
+     */
+    private int group(double[] distribution, boolean hiddenAttacks, int known, int ply) {
+        if (chanceKeys[ply] == null) {
+            chanceKeys[ply] = new int[TYPES.length];
+            chanceTypes[ply] = new int[TYPES.length];
+            chanceWeights[ply] = new double[TYPES.length];
+        }
+        int[] keys = chanceKeys[ply];
+        int[] types = chanceTypes[ply];
+        double[] weights = chanceWeights[ply];
+
+        int groups = 0;
+        for (int type = 0; type < TYPES.length; type++) {
+            double p = distribution[type];
+            if (p <= 0) {
+                continue;
+            }
+            int outcome = hiddenAttacks ? CombatTable.outcome(type, known) : CombatTable.outcome(known, type);
+            if (outcome == CombatTable.ILLEGAL) {
+                continue;
+            }
+            boolean survives = hiddenAttacks
+                    ? outcome == CombatTable.ATTACKER_WINS || outcome == CombatTable.LAND_MINE_DEACTIVATED
+                    : outcome == CombatTable.DEFENDER_WINS;
+            int key = outcome * 16 + (survives ? type : 15);
+
+            int g = 0;
+            while (g < groups && keys[g] != key) {
+                g++;
+            }
+            if (g == groups) {
+                keys[g] = key;
+                types[g] = type;
+                weights[g] = 0;
+                groups++;
+            }
+            weights[g] += p;
+        }
+        return groups;
+    }
+
+    private double[] distribution(Piece hidden) {
+        int id = hidden.getId();
+        return id >= 0 && id < distributions.length && distributions[id] != null ? distributions[id] : PRIOR;
+    }
+
+    /**
+     * Joga {@code move} com a peça mascarada trocada por uma do tipo {@code type}, restaurando-a depois.
+     * A substituta assume o id da mascarada, então a regra de repetição e a crença continuam valendo para ela.
+     */
+    private double playAs(Piece hidden, int type, int move, int depth, double alpha, double beta, int side, int ply) {
+        int x = hidden.getPosX();
+        int y = hidden.getPosY();
+        board.setPiece(x, y, standIn(hidden, type, ply));
+        double value = play(move, depth, alpha, beta, side, ply);
+        board.setPiece(x, y, hidden);
+        return value;
+    }
+
+    /**
+     * Substituta do tipo {@code type} para o ply; cada ply tem as suas, porque a substituta de um nó de acaso
+     * pode continuar no tabuleiro enquanto nós mais fundos trocam outras peças.
+     */
+    private Piece standIn(Piece hidden, int type, int ply) {
+        Piece[] pieces = standIns[ply];
+        if (pieces == null) {
+            pieces = standIns[ply] = new Piece[TYPES.length];
+        }
+        Piece piece = pieces[type];
+        if (piece == null) {
+            piece = pieces[type] = PieceFactory.createPiece(TYPES[type].getCode(), hidden.getPlayer(), board);
+        }
+        piece.assumeIdentityOf(hidden);
+        return piece;
+    }
+
+    private double play(int move, int depth, double alpha, double beta, int side, int ply) {
+        MoveUndo undo = board.makeMove(board.toAction(move));
+        double value = undo.getFeedback() instanceof PrisonerFeedback
+                ? WIN - ply - 1
+                : -negamax(depth - 1, -beta, -alpha, side ^ 1, ply + 1);
+        board.unmakeMove(undo);
+        return value;
+    }
+
+    /**
+     * Material (força + 1 de cada peça, o valor esperado para as mascaradas) mais o avanço das peças móveis,
+     * do ponto de vista de {@code side}.
+     */
+    private double evaluate(int side) {
+        double material = 0;
+        for (int i = 0; i < Cells.SIZE; i++) {
+            byte cell = board.getCell(Cells.row(i), Cells.col(i));
+            if (Cells.isEmpty(cell)) {
+                continue;
+            }
+            double value;
+            if (Cells.typeCode(cell) == Cells.UNKNOWN) {
+                int id = board.getPiece(Cells.row(i), Cells.col(i)).getId();
+                value = id >= 0 && id < expectedValues.length && distributions[id] != null ? expectedValues[id] : 4;
+            } else {
+                value = value(Cells.typeCode(cell) - 1);
+            }
+            if (Cells.isMovable(cell)) {
+                int row = Cells.row(i);
+                value += ADVANCE_WEIGHT * (Cells.owner(cell) == Cells.PLAYER1 ? row : Board.ROWS - 1 - row);
+            }
+            material += Cells.owner(cell) == owner ? value : -value;
+        }
+        return side == 0 ? material : -material;
+    }
+
+    private static double value(int type) {
+        return TYPES[type].getStrength() + 1;
+    }
+
+    /**
+     * Coloca os ataques antes dos movimentos para casas vazias, o que antecipa os cortes.
+     */
+    private void orderCapturesFirst(int[] buffer, int count) {
+        int next = 0;
+        for (int i = 0; i < count; i++) {
+            int to = Moves.to(buffer[i]);
+            if (!Cells.isEmpty(board.getCell(Cells.row(to), Cells.col(to)))) {
+                int tmp = buffer[next];
+                buffer[next++] = buffer[i];
+                buffer[i] = tmp;
+            }
+        }
+    }
+
+    private static int indexOf(int[] moves, int count, int move) {
+        for (int i = 0; i < count; i++) {
+            if (moves[i] == move) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,262 @@
+package game.search;
+
+import game.Board;
+import game.Cells;
+import game.MoveUndo;
+import game.Moves;
+import game.feedbacks.Feedback;
+import game.feedbacks.PrisonerFeedback;
+import game.pieces.QuantityPerPiece;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Busca Monte Carlo em árvore sobre conjuntos de informação (ISMCTS de um observador).
+ * <p>
+ * A cada iteração as peças adversárias recebem uma identidade sorteada pelo {@link Determinizer}; a árvore
+ * é percorrida só pelas jogadas legais nesse sorteio, escolhidas por UCB com a contagem de disponibilidade
+ * de cada jogada, e a partir da folha uma simulação aleatória de até {@link #ROLLOUT_DEPTH} jogadas é avaliada
+ * pelo material. Todas as jogadas são feitas com {@link Board#makeMove} e desfeitas ao fim da iteração, então um
+ * único tabuleiro serve para a busca inteira. Uma instância não é thread-safe; buscas paralelas usam uma
+ * instância, um tabuleiro e um gerador por thread.
+ */
+public final class Ismcts {
+    public static final int NO_MOVE = -1;
+    public static final int ROLLOUT_DEPTH = 40;
+    public static final double EXPLORATION = 0.7;
+
+    // Diferença de material que vale ~73% de chance de vitória na avaliação do fim da simulação
+    private static final double EVALUATION_SCALE = 10.0;
+    private static final QuantityPerPiece[] TYPES = QuantityPerPiece.values();
+
+    private final Board board;
+    private final String[] players;
+    private final int owner;
+    private final Determinizer determinizer;
+    private final RandomGenerator random;
+    private final Node root = new Node(NO_MOVE, 1);
+    private final int[] moves = new int[Moves.MAX_MOVES];
+    private MoveUndo[] undos = new MoveUndo[64];
+    private int undoCount;
+    private Node[] path = new Node[64];
+    private long playouts;
+
+    /**
+     * @param board        cópia do tabuleiro da qual a busca parte, com {@code player} na vez; é alterada durante
+     *                     a busca e volta à posição inicial (com as peças adversárias do último sorteio) ao fim
+     * @param player       jogador que busca a jogada
+     * @param opponent     adversário, cujas peças são sorteadas
+     * @param determinizer sorteio das peças adversárias
+     * @param random       gerador usado no sorteio, na expansão e nas simulações
+     */
+    public Ismcts(Board board, String player, String opponent, Determinizer determinizer, RandomGenerator random) {
+        this.board = board;
+        this.players = new String[] {player, opponent};
+        this.owner = board.ownerOf(player);
+        this.determinizer = determinizer;
+        this.random = random;
+    }
+
+    /**
+     * Faz iterações até {@code deadline} (em {@link System#nanoTime()}) ou até completar {@code maxPlayouts}
+     * simulações; pelo menos uma iteração é sempre feita. Pode ser chamado de novo para continuar a mesma árvore.
+     *
+     * @param maxPlayouts limite de simulações desta chamada, ou 0 para usar só o prazo
+     */
+    public void run(long deadline, long maxPlayouts) {
+        long done = 0;
+        do {
+            iterate();
+            done++;
+        } while ((maxPlayouts <= 0 || done < maxPlayouts) && System.nanoTime() < deadline
+                && !Thread.currentThread().isInterrupted());
+    }
+
+    public long getPlayouts() {
+        return playouts;
+    }
+
+    /**
+     * Preenche as jogadas da raiz e quantas vezes cada uma foi visitada; retorna quantas são.
+     */
+    public int getRootVisits(int[] outMoves, int[] outVisits) {
+        for (int i = 0; i < root.size; i++) {
+            outMoves[i] = root.children[i].move;
+            outVisits[i] = root.children[i].visits;
+        }
+        return root.size;
+    }
+
+    /**
+     * Jogada mais visitada da raiz (empates pela maior média), ou {@link #NO_MOVE} se não há jogadas.
+     */
+    public int bestMove() {
+        Node best = null;
+        for (int i = 0; i < root.size; i++) {
+            Node child = root.children[i];
+            if (best == null || child.visits > best.visits
+                    || (child.visits == best.visits && child.mean() > best.mean())) {
+                best = child;
+            }
+        }
+        return best != null ? best.move : NO_MOVE;
+    }
+
+    private void iterate() {
+        determinizer.determinize(board, random);
+
+        Node node = root;
+        int pathSize = 0;
+        path[pathSize++] = root;
+        int side = 0;
+        double reward = -1;
+
+        while (true) {
+            int count = board.generateMoves(players[side], moves);
+            if (count == 0) {
+                // Sem jogadas: quem está na vez perde
+                reward = side == 0 ? 0 : 1;
+                break;
+            }
+
+            boolean expanded = false;
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            int untried = 0;
+            for (int i = 0; i < count; i++) {
+                int move = moves[i];
+                Node child = node.child(move);
+                if (child == null) {
+                    moves[untried++] = move;
+                    continue;
+                }
+                child.availability++;
+                double score = child.mean() + EXPLORATION * Math.sqrt(Math.log(child.availability) / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            if (untried > 0) {
+                best = node.add(moves[random.nextInt(untried)], side);
+                best.availability++;
+                expanded = true;
+            }
+
+            if (pathSize == path.length) {
+                path = Arrays.copyOf(path, pathSize * 2);
+            }
+            path[pathSize++] = best;
+            Feedback feedback = make(best.move);
+            if (feedback instanceof PrisonerFeedback) {
+                reward = side == 0 ? 1 : 0;
+                break;
+            }
+            side ^= 1;
+            node = best;
+            if (expanded) {
+                break;
+            }
+        }
+
+        if (reward < 0) {
+            reward = rollout(side);
+        }
+        while (undoCount > 0) {
+            board.unmakeMove(undos[--undoCount]);
+            undos[undoCount] = null;
+        }
+
+        root.visits++;
+        for (int i = 1; i < pathSize; i++) {
+            Node visited = path[i];
+            visited.visits++;
+            visited.reward += visited.mover == 0 ? reward : 1 - reward;
+            path[i] = null;
+        }
+        playouts++;
+    }
+
+    /**
+     * Simulação com jogadas uniformemente aleatórias; retorna a recompensa do jogador que busca, em [0, 1].
+     */
+    private double rollout(int side) {
+        for (int ply = 0; ply < ROLLOUT_DEPTH; ply++) {
+            int count = board.generateMoves(players[side], moves);
+            if (count == 0) {
+                return side == 0 ? 0 : 1;
+            }
+            if (make(moves[random.nextInt(count)]) instanceof PrisonerFeedback) {
+                return side == 0 ? 1 : 0;
+            }
+            side ^= 1;
+        }
+        return evaluate();
+    }
+
+    /**
+     * Chance de vitória estimada pela diferença de material (força + 1 de cada peça) entre os jogadores.
+     */
+    private double evaluate() {
+        int material = 0;
+        for (int i = 0; i < Cells.SIZE; i++) {
+            byte cell = board.getCell(Cells.row(i), Cells.col(i));
+            if (Cells.isEmpty(cell) || Cells.typeCode(cell) == Cells.UNKNOWN) {
+                continue;
+            }
+            int value = TYPES[Cells.typeCode(cell) - 1].getStrength() + 1;
+            material += Cells.owner(cell) == owner ? value : -value;
+        }
+        return 1.0 / (1.0 + Math.exp(-material / EVALUATION_SCALE));
+    }
+
+    private Feedback make(int move) {
+        if (undoCount == undos.length) {
+            undos = Arrays.copyOf(undos, undoCount * 2);
+        }
+        MoveUndo undo = board.makeMove(board.toAction(move));
+        undos[undoCount++] = undo;
+        return undo.getFeedback();
+    }
+
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        final int move;
+        // Lado que fez a jogada que leva a este nó: 0 quem busca, 1 o adversário
+        final int mover;
+        int visits;
+        int availability;
+        double reward;
+        Node[] children = NO_CHILDREN;
+        int size;
+
+        Node(int move, int mover) {
+            this.move = move;
+            this.mover = mover;
+        }
+
+        double mean() {
+            return visits == 0 ? 0 : reward / visits;
+        }
+
+        Node child(int move) {
+            for (int i = 0; i < size; i++) {
+                if (children[i].move == move) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node add(int move, int mover) {
+            if (size == children.length) {
+                children = Arrays.copyOf(children, Math.max(4, size * 2));
+            }
+            Node child = new Node(move, mover);
+            children[size++] = child;
+            return child;
+        }
+    }
+}
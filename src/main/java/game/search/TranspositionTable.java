@@ -0,0 +1,118 @@
+package game.search;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Tabela de transposição de tamanho fixo, apoiada em um {@code long[]}, para compartilhar avaliações
+ * de posições entre jogadas e entre threads de busca.
+ * <p>
+ * Cada bucket tem duas entradas: a primeira só é substituída por buscas de profundidade maior ou igual
+ * (depth-preferred) e a segunda é sempre sobrescrita (always-replace). Cada entrada ocupa dois longs,
+ * {@code chave ^ dados} e {@code dados}, e é lida sem locks: uma leitura que intercalar com uma escrita
+ * concorrente não confere com a chave e é tratada como ausência, nunca como dado de outra posição.
+ * <p>
+ * Os dados guardam o valor (float), a jogada (16 bits), a profundidade (0..255) e o tipo do limite.
+ */
+public final class TranspositionTable {
+    public static final long MISS = 0L;
+
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+
+    public static final int NO_MOVE = 0xFFFF;
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int LONGS_PER_BUCKET = 4;
+    private static final int MOVE_SHIFT = 32;
+    private static final int DEPTH_SHIFT = 48;
+    private static final int FLAG_SHIFT = 56;
+    private static final long VALID = 1L << 63;
+
+    private final long[] table;
+    private final int bucketMask;
+
+    /**
+     * @param megabytes memória aproximada da tabela; o número de buckets é arredondado para potência de 2.
+     */
+    public TranspositionTable(int megabytes) {
+        if (megabytes <= 0) {
+            throw new IllegalArgumentException("Tamanho da tabela deve ser positivo: " + megabytes);
+        }
+        long buckets = Long.highestOneBit((long) megabytes * 1024 * 1024 / (LONGS_PER_BUCKET * Long.BYTES));
+        if (buckets > (1 << 28)) {
+            buckets = 1 << 28;
+        }
+        table = new long[(int) buckets * LONGS_PER_BUCKET];
+        bucketMask = (int) buckets - 1;
+    }
+
+    /**
+     * Procura a posição; retorna os dados empacotados ou {@link #MISS}.
+     */
+    public long probe(long key) {
+        int base = bucket(key);
+        for (int slot = base; slot < base + LONGS_PER_BUCKET; slot += 2) {
+            long data = (long) LONGS.getOpaque(table, slot + 1);
+            long check = (long) LONGS.getOpaque(table, slot);
+            if (data != MISS && (check ^ data) == key) {
+                return data;
+            }
+        }
+        return MISS;
+    }
+
+    public void store(long key, int depth, int flag, double score, int move) {
+        long data = pack(depth, flag, score, move);
+        int base = bucket(key);
+
+        long preferredData = (long) LONGS.getOpaque(table, base + 1);
+        long preferredKey = (long) LONGS.getOpaque(table, base) ^ preferredData;
+        int slot = preferredData == MISS || preferredKey == key || depth >= depth(preferredData) ? base : base + 2;
+
+        LONGS.setOpaque(table, slot + 1, data);
+        LONGS.setOpaque(table, slot, key ^ data);
+    }
+
+    /**
+     * Limpa a tabela. Não deve ser chamado enquanto outras threads estiverem gravando.
+     */
+    public void clear() {
+        Arrays.fill(table, 0L);
+    }
+
+    public int capacity() {
+        return table.length / 2;
+    }
+
+    public static double score(long data) {
+        return Float.intBitsToFloat((int) data);
+    }
+
+    public static int move(long data) {
+        return (int) (data >>> MOVE_SHIFT) & 0xFFFF;
+    }
+
+    public static int depth(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    public static int flag(long data) {
+        return (int) (data >>> FLAG_SHIFT) & 0x3;
+    }
+
+    private static long pack(int depth, int flag, double score, int move) {
+        int clampedDepth = Math.max(0, Math.min(depth, 0xFF));
+        return VALID
+                | ((long) flag << FLAG_SHIFT)
+                | ((long) clampedDepth << DEPTH_SHIFT)
+                | ((long) (move & 0xFFFF) << MOVE_SHIFT)
+                | (Float.floatToRawIntBits((float) score) & 0xFFFFFFFFL);
+    }
+
+    private int bucket(long key) {
+        return ((int) (key ^ (key >>> 32)) & bucketMask) * LONGS_PER_BUCKET;
+    }
+}
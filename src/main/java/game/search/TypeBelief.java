@@ -0,0 +1,14 @@
+package game.search;
+
+import game.pieces.QuantityPerPiece;
+
+/**
+ * Distribuição do tipo das peças adversárias mascaradas, por casa, na posição em que a busca começa.
+ */
+@FunctionalInterface
+public interface TypeBelief {
+    /**
+     * Probabilidade de a peça adversária em (x, y) ser do tipo {@code type}.
+     */
+    double probability(int x, int y, QuantityPerPiece type);
+}
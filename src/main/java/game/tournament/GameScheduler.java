@@ -0,0 +1,117 @@
+package game.tournament;
+
+import game.Game;
+import game.GameResult;
+import game.TimeControl;
+import game.output.GameOutput;
+import game.players.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Executa cada partida em sua própria virtual thread, com no máximo {@code maxConcurrentGames}
+ * partidas jogando ao mesmo tempo; as demais ficam paradas no semáforo sem ocupar threads de plataforma.
+ * <p>
+ * {@link #abort()} interrompe todas as partidas: as que estão jogando param antes da próxima jogada e as
+ * que aguardam vaga terminam sem começar, todas com {@link GameResult.Reason#ABORTED}.
+ * Jogadores que bloqueiam (I/O, sleep) devem respeitar a interrupção para parar de imediato.
+ */
+public class GameScheduler implements AutoCloseable {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore slots;
+    private final Queue<CompletableFuture<GameResult>> games = new ConcurrentLinkedQueue<>();
+    private volatile boolean aborted;
+
+    public GameScheduler(int maxConcurrentGames) {
+        if (maxConcurrentGames <= 0) {
+            throw new IllegalArgumentException("Número de partidas simultâneas deve ser positivo");
+        }
+        this.slots = new Semaphore(maxConcurrentGames);
+    }
+
+    /**
+     * Agenda uma partida sem saída no console; os jogadores são criados na thread da partida.
+     */
+    public CompletableFuture<GameResult> submit(Supplier<? extends Player> player1Factory,
+                                                Supplier<? extends Player> player2Factory) {
+        return submit(player1Factory, player2Factory, null);
+    }
+
+    /**
+     * Agenda uma partida com relógio; {@code timeControl} null joga sem limite de tempo.
+     */
+    public CompletableFuture<GameResult> submit(Supplier<? extends Player> player1Factory,
+                                                Supplier<? extends Player> player2Factory,
+                                                TimeControl timeControl) {
+        CompletableFuture<GameResult> game = CompletableFuture.supplyAsync(
+                () -> play(player1Factory, player2Factory, timeControl), executor);
+        games.add(game);
+        return game;
+    }
+
+    private GameResult play(Supplier<? extends Player> player1Factory, Supplier<? extends Player> player2Factory,
+                            TimeControl timeControl) {
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return abortedResult(0);
+        }
+
+        try {
+            return new Game(player1Factory.get(), player2Factory.get(), GameOutput.none(), timeControl).start();
+        } catch (RuntimeException e) {
+            // Jogadores interrompidos no meio de uma jogada podem falhar de qualquer jeito
+            if (aborted) {
+                return abortedResult(0);
+            }
+            throw e;
+        } finally {
+            slots.release();
+        }
+    }
+
+    private static GameResult abortedResult(int moves) {
+        return new GameResult(null, GameResult.Reason.ABORTED, moves);
+    }
+
+    /**
+     * Espera todas as partidas agendadas até aqui e retorna os resultados na ordem de agendamento.
+     * @throws java.util.concurrent.CompletionException se alguma partida falhou.
+     */
+    public List<GameResult> awaitAll() {
+        List<GameResult> results = new ArrayList<>(games.size());
+        for (CompletableFuture<GameResult> game : games) {
+            results.add(game.join());
+        }
+        return results;
+    }
+
+    /**
+     * Interrompe todas as partidas agendadas e recusa novos agendamentos.
+     */
+    public void abort() {
+        aborted = true;
+        executor.shutdownNow();
+    }
+
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Espera as partidas em andamento terminarem e libera o executor.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -0,0 +1,184 @@
+package game.tournament;
+
+import game.Game;
+import game.GameResult;
+import game.TimeControl;
+import game.metrics.GameMetrics;
+import game.output.GameOutput;
+import game.players.Player;
+import game.players.SimplePlayer;
+import game.replay.ReplayWriter;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Joga várias partidas entre dois jogadores em paralelo, sem saída no console.
+ * <p>
+ * Cada partida cria seu próprio {@link Game} (e portanto seu próprio tabuleiro) e pede jogadores novos
+ * às fábricas, então as partidas não compartilham estado. As partidas são distribuídas em um
+ * {@link ForkJoinPool} (work-stealing), por padrão do tamanho do número de núcleos da máquina.
+ */
+public class Tournament {
+    private final Supplier<? extends Player> player1Factory;
+    private final Supplier<? extends Player> player2Factory;
+    private final TimeControl timeControl;
+    private ReplayWriter replayWriter;
+    private Long seed;
+    private boolean metricsEnabled;
+
+    /**
+     * @param player1Factory cria o jogador da primeira cadeira a cada partida.
+     * @param player2Factory cria o jogador da segunda cadeira a cada partida.
+     */
+    public Tournament(Supplier<? extends Player> player1Factory, Supplier<? extends Player> player2Factory) {
+        this(player1Factory, player2Factory, null);
+    }
+
+    /**
+     * @param timeControl relógio aplicado em todas as partidas, ou null para jogar sem limite de tempo.
+     */
+    public Tournament(Supplier<? extends Player> player1Factory, Supplier<? extends Player> player2Factory,
+                      TimeControl timeControl) {
+        this.player1Factory = player1Factory;
+        this.player2Factory = player2Factory;
+        this.timeControl = timeControl;
+    }
+
+    /**
+     * Grava todas as partidas do torneio no mesmo arquivo de replays.
+     */
+    public void setReplayWriter(ReplayWriter replayWriter) {
+        this.replayWriter = replayWriter;
+    }
+
+    /**
+     * Torna o torneio reproduzível: a partida {@code i} usa a semente {@code seed + i},
+     * independente da ordem em que as threads jogam as partidas.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Mede as latências de todas as partidas; o total sai em {@link TournamentResult#metrics()}.
+     */
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public TournamentResult run(int games) {
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            return run(games, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public TournamentResult run(int games, ForkJoinPool pool) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Número de partidas não pode ser negativo");
+        }
+
+        long start = System.nanoTime();
+        Tally tally = pool.submit(() -> IntStream.range(0, games)
+                .parallel()
+                .mapToObj(this::playGame)
+                .collect(Tally::new, Tally::add, Tally::merge)
+        ).join();
+        long elapsed = System.nanoTime() - start;
+
+        return new TournamentResult(games, tally.player1Wins, tally.player2Wins, tally.draws,
+                tally.player1InvalidSetups, tally.player2InvalidSetups, tally.totalMoves, elapsed, tally.metrics);
+    }
+
+    private SeatResult playGame(int index) {
+        Player player1 = player1Factory.get();
+        Player player2 = player2Factory.get();
+        // O tabuleiro identifica o dono das peças pelo nome do jogador
+        if (player1.getPlayerName().equals(player2.getPlayerName())) {
+            throw new IllegalArgumentException("Os jogadores precisam de nomes diferentes: " + player1.getPlayerName());
+        }
+
+        Game game = new Game(player1, player2, GameOutput.none(), timeControl);
+        game.setReplayWriter(replayWriter);
+        game.setMetricsEnabled(metricsEnabled);
+        if (seed != null) {
+            game.setSeed(seed + index);
+        }
+        GameResult result = game.start();
+        return new SeatResult(result, player1.getPlayerName());
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+
+        Tournament tournament = new Tournament(() -> new SimplePlayer("Player1"), () -> new SimplePlayer("Player2"));
+        tournament.setMetricsEnabled(true);
+        TournamentResult result = tournament.run(games);
+        System.out.println(result);
+        System.out.print(result.metrics());
+    }
+
+    private record SeatResult(GameResult result, String player1Name) {
+        boolean player1Won() {
+            return player1Name.equals(result.winner());
+        }
+    }
+
+    private static final class Tally {
+        int player1Wins;
+        int player2Wins;
+        int draws;
+        int player1InvalidSetups;
+        int player2InvalidSetups;
+        long totalMoves;
+        GameMetrics metrics;
+
+        void add(SeatResult seat) {
+            GameResult result = seat.result();
+            totalMoves += result.moves();
+            addMetrics(result.metrics());
+
+            if (result.isDraw()) {
+                draws++;
+                return;
+            }
+
+            boolean invalidSetup = result.reason() == GameResult.Reason.INVALID_SETUP;
+            if (seat.player1Won()) {
+                player1Wins++;
+                if (invalidSetup) {
+                    player2InvalidSetups++;
+                }
+            } else {
+                player2Wins++;
+                if (invalidSetup) {
+                    player1InvalidSetups++;
+                }
+            }
+        }
+
+        void merge(Tally other) {
+            player1Wins += other.player1Wins;
+            player2Wins += other.player2Wins;
+            draws += other.draws;
+            player1InvalidSetups += other.player1InvalidSetups;
+            player2InvalidSetups += other.player2InvalidSetups;
+            totalMoves += other.totalMoves;
+            addMetrics(other.metrics);
+        }
+
+        private void addMetrics(GameMetrics gameMetrics) {
+            if (gameMetrics == null) {
+                return;
+            }
+            if (metrics == null) {
+                metrics = new GameMetrics();
+            }
+            metrics.merge(gameMetrics);
+        }
+    }
+}
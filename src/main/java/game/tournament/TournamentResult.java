@@ -0,0 +1,36 @@
+package game.tournament;
+
+import game.metrics.GameMetrics;
+
+import java.util.Locale;
+
+/**
+ * Totais de um {@link Tournament}. As vitórias por setup inválido do adversário também contam em
+ * {@code player1Wins}/{@code player2Wins}; os setups inválidos de ambos contam como empate.
+ *
+ * @param player1InvalidSetups derrotas do primeiro jogador por setup inválido.
+ * @param player2InvalidSetups derrotas do segundo jogador por setup inválido.
+ * @param totalMoves           soma das jogadas de todas as partidas.
+ * @param elapsedNanos         tempo de parede do torneio inteiro.
+ * @param metrics              latências somadas de todas as partidas, ou null se a medição não foi ligada.
+ */
+public record TournamentResult(int games, int player1Wins, int player2Wins, int draws,
+                               int player1InvalidSetups, int player2InvalidSetups,
+                               long totalMoves, long elapsedNanos, GameMetrics metrics) {
+
+    public double averageMoves() {
+        return games == 0 ? 0 : (double) totalMoves / games;
+    }
+
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%d partidas: Player1 %d, Player2 %d, empates %d (setups inválidos %d/%d), média de %.1f jogadas, %.1f partidas/s",
+                games, player1Wins, player2Wins, draws, player1InvalidSetups, player2InvalidSetups,
+                averageMoves(), gamesPerSecond());
+    }
+}
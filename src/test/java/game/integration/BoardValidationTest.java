@@ -1,6 +1,8 @@
 package game.integration;
 
 import game.Board;
+import game.BoardView;
+import game.Cells;
 import game.feedbacks.*;
 import game.pieces.*;
 import game.players.SimplePlayer;
@@ -276,4 +278,112 @@ public class BoardValidationTest {
         var player1SetupIsValid = board.addPlayerSetup(result, 1);
         assertFalse(player1SetupIsValid);
     }
+
+    @SneakyThrows
+    @Test
+    public void cellsFollowPiecesAndHiddenViewMasksEnemy() {
+        Board board = new Board();
+        SimplePlayer player1 = new SimplePlayer("player1");
+        SimplePlayer player2 = new SimplePlayer("player2");
+        board.player1 = player1;
+        board.player2 = player2;
+
+        Captain cp = new Captain("player1", board);
+        board.setPiece(0, 1, cp);
+        LandMine l = new LandMine("player2", board);
+        board.setPiece(7, 2, l);
+
+        assertEquals(QuantityPerPiece.CAPTAIN, Cells.type(board.getCell(0, 1)));
+        assertEquals(Cells.PLAYER1, Cells.owner(board.getCell(0, 1)));
+        assertEquals(QuantityPerPiece.LAND_MINE, Cells.type(board.getCell(7, 2)));
+        assertEquals(Cells.PLAYER2, Cells.owner(board.getCell(7, 2)));
+
+        board.executeAction(new PieceAction(cp, 0, 2));
+        assertTrue(Cells.isEmpty(board.getCell(0, 1)));
+        assertEquals(QuantityPerPiece.CAPTAIN, Cells.type(board.getCell(0, 2)));
+
+        BoardView view = board.getHiddenView(player1.getPlayerName());
+        assertTrue(view.isEnemy(7, 2));
+        assertEquals(Cells.UNKNOWN, Cells.typeCode(view.getCell(7, 2)));
+        assertInstanceOf(OpponentPiece.class, view.getPiece(7, 2));
+        assertEquals(cp.getPlayer(), view.getPiece(0, 2).getPlayer());
+        assertNotSame(cp, view.getPiece(0, 2));
+
+        Board hidden = view.copy();
+        assertInstanceOf(OpponentPiece.class, hidden.getPiece(7, 2));
+        assertEquals(Cells.UNKNOWN, Cells.typeCode(hidden.getCell(7, 2)));
+        assertEquals(Cells.PLAYER2, Cells.owner(hidden.getCell(7, 2)));
+        assertEquals(QuantityPerPiece.CAPTAIN, Cells.type(hidden.getCell(0, 2)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void viewSoldierChecksMultiSquareSlides() {
+        Board board = new Board();
+        SimplePlayer player1 = new SimplePlayer("player1");
+        SimplePlayer player2 = new SimplePlayer("player2");
+        board.player1 = player1;
+        board.player2 = player2;
+        board.setPiece(0, 0, new Soldier("player1", board));
+        board.setPiece(0, 4, new Sargent("player1", board));
+        board.setPiece(3, 0, new Captain("player2", board));
+
+        BoardView view = board.getHiddenView(player1.getPlayerName());
+        Piece soldier = view.getPiece(0, 0);
+
+        assertTrue(soldier.canMove(2, 0));
+        assertTrue(soldier.canMove(0, 3));
+        assertFalse(soldier.canMove(0, 5));
+        assertFalse(soldier.canMove(4, 0));
+        assertSame(soldier, view.getPiece(0, 0));
+
+        // O caminho é lido nas casas da visão, que acompanha o tabuleiro
+        board.setPiece(0, 4, null);
+        assertTrue(soldier.canMove(0, 5));
+    }
+
+    @SneakyThrows
+    @Test
+    public void endGameWhenLastMovablePieceIsEliminated() {
+        Board board = new Board();
+        SimplePlayer player1 = new SimplePlayer("player1");
+        SimplePlayer player2 = new SimplePlayer("player2");
+        board.player1 = player1;
+        board.player2 = player2;
+
+        Captain cp = new Captain("player1", board);
+        board.setPiece(0, 1, cp);
+        Prisoner p1 = new Prisoner("player1", board);
+        board.setPiece(0, 0, p1);
+
+        LandMine l = new LandMine("player2", board);
+        board.setPiece(0, 2, l);
+        Soldier s = new Soldier("player2", board);
+        board.setPiece(7, 3, s);
+
+        assertEquals(1, board.getMovablePieces(Cells.PLAYER1));
+        assertEquals(1, board.getMovablePieces(Cells.PLAYER2));
+        assertNull(board.isGameFinished());
+
+        board.executeAction(new PieceAction(cp, 0, 2));
+
+        assertEquals(0, board.getMovablePieces(Cells.PLAYER1));
+        Feedback roundFeedback = board.isGameFinished();
+        assertEquals("Fim de Jogo! Jogador player1 sem peças móveis", roundFeedback.getMessage());
+    }
+
+    @SneakyThrows
+    @Test
+    public void pieceOfUnknownPlayerIsRejected() {
+        Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
+
+        assertEquals(Cells.PLAYER1, board.ownerOf("player1"));
+        assertEquals(Cells.PLAYER2, board.ownerOf("player2"));
+        assertThrows(IllegalArgumentException.class, () -> board.ownerOf("Player2"));
+        assertThrows(IllegalArgumentException.class, () -> board.ownerOf(null));
+        assertThrows(IllegalArgumentException.class, () -> board.setPiece(0, 0, new Captain("player3", board)));
+        assertNull(board.getPiece(0, 0));
+    }
 }
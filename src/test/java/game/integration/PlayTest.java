@@ -174,6 +174,7 @@ public class PlayTest {
         Board board = new Board();
         SimplePlayer player1 = new SimplePlayer("player1");
         board.player1 = player1;
+        board.player2 = new SimplePlayer("player2");
         Corporal c = new Corporal("player1", board);
         board.setPiece(0, 1, c);
         LandMine l = new LandMine("player2", board);
@@ -194,6 +195,7 @@ public class PlayTest {
     public void moveBasicSoldierToLandMine() {
         Board board = new Board();
         board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Captain cp = new Captain("player1", board);
         board.setPiece(0, 1, cp);
         LandMine l = new LandMine("player2", board);
@@ -213,6 +215,7 @@ public class PlayTest {
     public void winGameByFoundingPrisoner() {
         Board board = new Board();
         board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Captain cp = new Captain("player1", board);
         board.setPiece(0, 1, cp);
         Prisoner p = new Prisoner("player2", board);
@@ -246,4 +249,24 @@ public class PlayTest {
         assertNotNull(board.getPiece(0, 1));
         assertNotNull(board.getPiece(0, 2));
     }
+
+    @SneakyThrows
+    @Test
+    public void invalidMoveMessageIsKeptWhenForwardedToEnemy() {
+        Board board = new Board();
+        SimplePlayer player1 = new SimplePlayer("player1");
+        SimplePlayer player2 = new SimplePlayer("player2");
+        board.player1 = player1;
+        board.player2 = player2;
+
+        Sargent sg = new Sargent("player1", board);
+        sg.setPosition(0, 1);
+
+        Feedback roundFeedback = board.executeAction(new PieceAction(sg, 0, 2));
+        Feedback enemyFeedback = ConvertFeedbackToEnemy.convert(roundFeedback);
+
+        assertEquals("Jogada inválida: Não há peça em [A, 2]\nPassou a vez!", roundFeedback.getMessage());
+        assertEquals(roundFeedback.getMessage(), enemyFeedback.getMessage());
+        assertInstanceOf(InvalidMoveFeedback.class, enemyFeedback);
+    }
 }
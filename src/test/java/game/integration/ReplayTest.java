@@ -0,0 +1,189 @@
+package game.integration;
+
+import game.Board;
+import game.Cells;
+import game.GameResult;
+import game.Moves;
+import game.feedbacks.Feedback;
+import game.feedbacks.PrisonerFeedback;
+import game.players.RaiAraujoPlayer;
+import game.players.SimplePlayer;
+import game.replay.GameRecording;
+import game.replay.GameReplay;
+import game.replay.ReplayReader;
+import game.replay.ReplayWriter;
+import game.tournament.Tournament;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplayTest {
+
+    @TempDir
+    Path dir;
+
+    @SneakyThrows
+    @Test
+    public void replayedGamesReachTheRecordedOutcome() {
+        Path file = dir.resolve("games.replay");
+        try (ReplayWriter writer = new ReplayWriter(file)) {
+            Tournament tournament = new Tournament(() -> new SimplePlayer("Player1"), () -> new SimplePlayer("Player2"));
+            tournament.setReplayWriter(writer);
+            tournament.run(4, new ForkJoinPool(2));
+        }
+
+        List<GameReplay> replays = readAll(file);
+        assertEquals(4, replays.size());
+
+        for (GameReplay replay : replays) {
+            Board board = replay.initialBoard();
+            Feedback last = null;
+            for (int ply = 0; ply < replay.getPlyCount(); ply++) {
+                last = GameReplay.applyPly(board, replay.getPly(ply));
+            }
+
+            assertEquals(replay.getPlyCount(), board.numberMoves);
+            if (replay.getReason() == GameResult.Reason.PRISONER_FOUND) {
+                assertInstanceOf(PrisonerFeedback.class, last);
+            } else {
+                assertNotNull(board.isGameFinished());
+            }
+        }
+        // Alguns KB por partida: 2 bytes por jogada mais cabeçalho, setups e keyframes
+        int keyframes = 5000 / GameReplay.KEYFRAME_INTERVAL;
+        assertTrue(Files.size(file) < 4 * (100 + 2 * 5000 + keyframes * GameReplay.KEYFRAME_BYTES));
+    }
+
+    @SneakyThrows
+    @Test
+    public void readerJumpsToAnyPlyFromKeyframes() {
+        Path file = dir.resolve("games.replay");
+        try (ReplayWriter writer = new ReplayWriter(file)) {
+            Tournament tournament = new Tournament(() -> new SimplePlayer("Player1"), () -> new SimplePlayer("Player2"));
+            tournament.setReplayWriter(writer);
+            tournament.run(3, new ForkJoinPool(1));
+        }
+
+        ReplayReader reader = new ReplayReader(file);
+        assertEquals(3, reader.getGameCount());
+
+        for (int game = 0; game < reader.getGameCount(); game++) {
+            GameReplay replay = reader.getGame(game);
+            int plies = replay.getPlyCount();
+
+            // Reprodução completa desde o início, para comparar com os saltos do leitor
+            Board sequential = replay.initialBoard();
+            long[] hashes = new long[plies + 1];
+            int[][] moves = new int[plies + 1][];
+            hashes[0] = sequential.hash();
+            moves[0] = legalMoves(sequential);
+            for (int ply = 0; ply < plies; ply++) {
+                GameReplay.applyPly(sequential, replay.getPly(ply));
+                hashes[ply + 1] = sequential.hash();
+                moves[ply + 1] = legalMoves(sequential);
+            }
+
+            int[] targets = {plies, plies / 2, 0, ReplayReader.KEYFRAME_INTERVAL, ReplayReader.KEYFRAME_INTERVAL + 1,
+                    2 * ReplayReader.KEYFRAME_INTERVAL + 3, plies - 1};
+            for (int target : targets) {
+                if (target < 0 || target > plies) {
+                    continue;
+                }
+                Board board = reader.boardAt(game, target);
+                assertEquals(target, board.numberMoves);
+                assertEquals(hashes[target], board.hash());
+                // Os keyframes também restauram o histórico da regra de repetição
+                assertArrayEquals(moves[target], legalMoves(board));
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.boardAt(3, 0));
+    }
+
+    @SneakyThrows
+    @Test
+    public void replayStartsWithTheRecordedOpener() {
+        SplittableRandom random = new SplittableRandom(11);
+        Board board = new Board();
+        board.player1 = new SimplePlayer("Player1");
+        board.player2 = new SimplePlayer("Player2");
+        board.player1.setRandom(random.split());
+        board.player2.setRandom(random.split());
+        assertTrue(board.addPlayerSetup(board.player1.setup(board), 1));
+        assertTrue(board.addPlayerSetup(board.player2.setup(board), 2));
+
+        Path file = dir.resolve("opener.replay");
+        int plies = ReplayReader.KEYFRAME_INTERVAL + 10;
+        long[] hashes = new long[plies + 1];
+        try (ReplayWriter writer = new ReplayWriter(file)) {
+            GameRecording recording = writer.startGame(board);
+            board.setActionRecorder(recording);
+            // O Player2 abre a partida, como quando o sorteio de Game.start escolhe ele
+            board.setSideToMove(Cells.PLAYER2);
+            hashes[0] = board.hash();
+            for (int ply = 0; ply < plies; ply++) {
+                int[] moves = legalMoves(board);
+                board.executeAction(board.toAction(moves[random.nextInt(moves.length)]));
+                hashes[ply + 1] = board.hash();
+            }
+            recording.finish(new GameResult(null, GameResult.Reason.ABORTED, plies));
+        }
+
+        ReplayReader reader = new ReplayReader(file);
+        assertEquals(Cells.PLAYER2, reader.getGame(0).getOpener());
+        assertEquals(Cells.PLAYER2, reader.boardAt(0, 0).getSideToMove());
+        for (int ply : new int[]{0, 1, ReplayReader.KEYFRAME_INTERVAL, plies}) {
+            assertEquals(hashes[ply], reader.boardAt(0, ply).hash());
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void sameSeedRecordsTheSameGames() {
+        Path first = dir.resolve("first.replay");
+        Path second = dir.resolve("second.replay");
+
+        for (Path file : new Path[]{first, second}) {
+            try (ReplayWriter writer = new ReplayWriter(file)) {
+                Tournament tournament = new Tournament(() -> new SimplePlayer("Player1"), () -> new RaiAraujoPlayer());
+                tournament.setReplayWriter(writer);
+                tournament.setSeed(7);
+                tournament.run(1, new ForkJoinPool(1));
+            }
+        }
+
+        assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+    }
+
+    private static int[] legalMoves(Board board) {
+        String player = board.getSideToMove() == Cells.PLAYER1 ? board.player1.getPlayerName() : board.player2.getPlayerName();
+        int[] moves = new int[Moves.MAX_MOVES];
+        return Arrays.copyOf(moves, board.generateMoves(player, moves));
+    }
+
+    @SneakyThrows
+    private static List<GameReplay> readAll(Path file) {
+        List<GameReplay> replays = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            while (true) {
+                try {
+                    in.readInt();
+                } catch (EOFException e) {
+                    return replays;
+                }
+                replays.add(GameReplay.read(in));
+            }
+        }
+    }
+}
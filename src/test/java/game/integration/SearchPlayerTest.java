@@ -0,0 +1,152 @@
+package game.integration;
+
+import game.Board;
+import game.BoardView;
+import game.Game;
+import game.GameResult;
+import game.Moves;
+import game.output.GameOutput;
+import game.pieces.PieceAction;
+import game.pieces.PieceFactory;
+import game.players.EnsembleIsmctsPlayer;
+import game.players.ExpectimaxPlayer;
+import game.players.IsmctsPlayer;
+import game.players.Player;
+import game.players.SimplePlayer;
+import game.search.Expectimax;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchPlayerTest {
+
+    private static Board startingBoard(Player player1, Player player2) {
+        SplittableRandom random = new SplittableRandom(7);
+        player1.setRandom(random.split());
+        player2.setRandom(random.split());
+        Board board = new Board();
+        board.player1 = player1;
+        board.player2 = player2;
+        assertTrue(board.addPlayerSetup(player1.setup(board), 1));
+        assertTrue(board.addPlayerSetup(player2.setup(board), 2));
+        return board;
+    }
+
+    private static void assertLegal(BoardView view, PieceAction action) {
+        int[] moves = new int[Moves.MAX_MOVES];
+        int count = view.generateMoves(moves);
+        int move = Moves.encode(action.getPiece().getPosX(), action.getPiece().getPosY(), action.getNewPosX(), action.getNewPosY());
+        for (int i = 0; i < count; i++) {
+            if (moves[i] == move) {
+                return;
+            }
+        }
+        fail("Jogada ilegal: " + action.getPiece().getRepresentation() + " para [" + action.getNewPosX() + ", " + action.getNewPosY() + "]");
+    }
+
+    @SneakyThrows
+    @Test
+    public void ismctsPlaysALegalMoveAndCountsPlayouts() {
+        IsmctsPlayer player = new IsmctsPlayer("ISMCTS", Duration.ofMillis(50));
+        Board board = startingBoard(player, new SimplePlayer("Player2"));
+        BoardView view = board.getHiddenView("ISMCTS");
+
+        PieceAction action = player.play(view, null, null);
+
+        assertLegal(view, action);
+        assertTrue(player.getPlayouts() > 0);
+        assertTrue(player.getPlayoutsPerSecond() > 0);
+    }
+
+    @SneakyThrows
+    @Test
+    public void ismctsBeatsSimplePlayer() {
+        Game game = new Game(new IsmctsPlayer("ISMCTS", Duration.ofSeconds(1), 100), new SimplePlayer("Player2"), GameOutput.none());
+        game.setSeed(3);
+
+        GameResult result = game.start();
+
+        assertEquals("ISMCTS", result.winner());
+    }
+
+    @SneakyThrows
+    @Test
+    public void ensembleRunsEverySearchInParallel() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            EnsembleIsmctsPlayer player = new EnsembleIsmctsPlayer("Ensemble", Duration.ofSeconds(5), 25, 3, pool);
+            Board board = startingBoard(player, new SimplePlayer("Player2"));
+            BoardView view = board.getHiddenView("Ensemble");
+
+            PieceAction action = player.play(view, null, null);
+
+            assertLegal(view, action);
+            assertEquals(3 * 25, player.getPlayouts());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void expectimaxPlaysALegalMoveAndReportsDepth() {
+        ExpectimaxPlayer player = new ExpectimaxPlayer("Expectimax", Duration.ofMillis(200));
+        Board board = startingBoard(player, new SimplePlayer("Player2"));
+        BoardView view = board.getHiddenView("Expectimax");
+
+        PieceAction action = player.play(view, null, null);
+
+        assertLegal(view, action);
+        assertTrue(player.getNodes() > 0);
+        assertTrue(player.getLastDepth() >= 1);
+        assertTrue(player.getNodesPerSecond() > 0);
+    }
+
+    @SneakyThrows
+    @Test
+    public void expectimaxBeatsSimplePlayer() {
+        Game game = new Game(new ExpectimaxPlayer("Expectimax", Duration.ofSeconds(1), 2), new SimplePlayer("Player2"), GameOutput.none());
+        game.setSeed(3);
+
+        GameResult result = game.start();
+
+        assertEquals("Expectimax", result.winner());
+    }
+
+    @SneakyThrows
+    @Test
+    public void expectimaxChanceNodesReuseStandInsWithTheHiddenPieceId() {
+        Board board = new Board();
+        board.player1 = new SimplePlayer("Player1");
+        board.player2 = new SimplePlayer("Player2");
+        board.setPiece(0, 0, PieceFactory.createPiece("PS", "Player1", board));
+        board.setPiece(2, 0, PieceFactory.createPiece("CP", "Player1", board));
+        board.setPiece(2, 2, PieceFactory.createPiece("SG", "Player1", board));
+        board.setPiece(9, 9, PieceFactory.createPiece("PS", "Player2", board));
+        board.setPiece(3, 0, PieceFactory.createPiece("C", "Player2", board));
+        board.setPiece(2, 1, PieceFactory.createPiece("T", "Player2", board));
+        Board hidden = board.getHiddenView("Player1").copy();
+        int[] hiddenIds = {hidden.getPiece(3, 0).getId(), hidden.getPiece(2, 1).getId()};
+        long hash = hidden.hash();
+
+        Expectimax search = new Expectimax(hidden, "Player1", "Player2", (x, y, type) -> 1);
+        int[] moves = new int[Moves.MAX_MOVES];
+        int count = hidden.generateMoves("Player1", moves);
+        search.search(moves, count, System.nanoTime() + Duration.ofSeconds(5).toNanos(), 4);
+
+        // A segunda busca reaproveita as substitutas da primeira e não reserva nenhum id novo
+        int before = hidden.allocatePieceId();
+        search.search(moves, count, System.nanoTime() + Duration.ofSeconds(5).toNanos(), 4);
+        assertEquals(before + 1, hidden.allocatePieceId());
+
+        assertEquals(hash, hidden.hash());
+        assertEquals(hiddenIds[0], hidden.getPiece(3, 0).getId());
+        assertEquals(hiddenIds[1], hidden.getPiece(2, 1).getId());
+        assertNull(hidden.getPiece(3, 0).getType());
+    }
+}
@@ -0,0 +1,186 @@
+package game.integration;
+
+import game.Board;
+import game.Cells;
+import game.BoardView;
+import game.Game;
+import game.GameResult;
+import game.TimeControl;
+import game.feedbacks.Feedback;
+import game.metrics.GameMetrics;
+import game.output.GameOutput;
+import game.pieces.Piece;
+import game.pieces.PieceAction;
+import game.players.SimplePlayer;
+import game.tournament.GameScheduler;
+import game.tournament.Tournament;
+import game.tournament.TournamentResult;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TournamentTest {
+
+    @SneakyThrows
+    @Test
+    public void tournamentCountsEveryGame() {
+        Tournament tournament = new Tournament(() -> new SimplePlayer("Player1"), () -> new SimplePlayer("Player2"));
+        TournamentResult result = tournament.run(8, new ForkJoinPool(2));
+
+        assertEquals(8, result.games());
+        assertEquals(8, result.player1Wins() + result.player2Wins() + result.draws());
+        assertTrue(result.averageMoves() > 0);
+        assertTrue(result.gamesPerSecond() > 0);
+        assertNull(result.metrics());
+    }
+
+    @SneakyThrows
+    @Test
+    public void tournamentMergesLatencyMetrics() {
+        Tournament tournament = new Tournament(() -> new SimplePlayer("Player1"), () -> new SimplePlayer("Player2"));
+        tournament.setMetricsEnabled(true);
+        TournamentResult result = tournament.run(4, new ForkJoinPool(2));
+
+        GameMetrics metrics = result.metrics();
+        assertEquals(4, metrics.getWall(Cells.PLAYER1, GameMetrics.Operation.SETUP).getCount());
+        long plays = metrics.getWall(Cells.PLAYER1, GameMetrics.Operation.PLAY).getCount()
+                + metrics.getWall(Cells.PLAYER2, GameMetrics.Operation.PLAY).getCount();
+        long actions = metrics.getWall(Cells.PLAYER1, GameMetrics.Operation.EXECUTE_ACTION).getCount()
+                + metrics.getWall(Cells.PLAYER2, GameMetrics.Operation.EXECUTE_ACTION).getCount();
+        assertEquals(result.totalMoves(), plays);
+        assertEquals(result.totalMoves(), actions);
+    }
+
+    @SneakyThrows
+    @Test
+    public void tournamentRejectsPlayersWithSameName() {
+        Tournament tournament = new Tournament(() -> new SimplePlayer("Player"), () -> new SimplePlayer("Player"));
+
+        assertThrows(IllegalArgumentException.class, () -> tournament.run(1, new ForkJoinPool(1)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void schedulerRunsEveryGame() {
+        try (GameScheduler scheduler = new GameScheduler(4)) {
+            for (int i = 0; i < 16; i++) {
+                scheduler.submit(() -> new SimplePlayer("Player1"), () -> new SimplePlayer("Player2"));
+            }
+
+            List<GameResult> results = scheduler.awaitAll();
+            assertEquals(16, results.size());
+            assertTrue(results.stream().noneMatch(r -> r.reason() == GameResult.Reason.ABORTED));
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void abortStopsRunningAndWaitingGames() {
+        CountDownLatch started = new CountDownLatch(2);
+
+        try (GameScheduler scheduler = new GameScheduler(2)) {
+            for (int i = 0; i < 10; i++) {
+                scheduler.submit(() -> new SlowPlayer("Player1", started), () -> new SlowPlayer("Player2", started));
+            }
+            started.await();
+            scheduler.abort();
+
+            List<GameResult> results = scheduler.awaitAll();
+            assertEquals(10, results.size());
+            assertTrue(results.stream().allMatch(r -> r.reason() == GameResult.Reason.ABORTED));
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void slowPlayerLosesAfterMaxTimeouts() {
+        CountDownLatch started = new CountDownLatch(0);
+        TimeControl clock = TimeControl.of(Duration.ofMillis(50), Duration.ofMillis(10), 3);
+
+        GameResult result = new Game(new SlowPlayer("Player1", started), new SimplePlayer("Player2"),
+                GameOutput.none(), clock).start();
+
+        assertEquals(GameResult.Reason.TIMEOUT, result.reason());
+        assertEquals("Player2", result.winner());
+        assertTrue(result.player1ThinkingNanos() >= Duration.ofMillis(50).toNanos());
+    }
+
+    @SneakyThrows
+    @Test
+    public void metricsCountBytesAllocatedByPlayer() {
+        Game game = new Game(new AllocatingPlayer("Player1"), new SimplePlayer("Player2"), GameOutput.none());
+        game.setMetricsEnabled(true);
+        GameMetrics metrics = game.start().metrics();
+
+        assertTrue(metrics.getAllocatedBytesPerCall(Cells.PLAYER1, GameMetrics.Operation.PLAY) >= AllocatingPlayer.BYTES);
+        assertTrue(metrics.getAllocatedBytesPerCall(Cells.PLAYER2, GameMetrics.Operation.PLAY) < AllocatingPlayer.BYTES);
+        assertTrue(metrics.getAllocatedBytesPerPly(Cells.PLAYER1) >= AllocatingPlayer.BYTES);
+    }
+
+    @SneakyThrows
+    @Test
+    public void metricsUnderTimeControlMeasureCpuAndAllocation() {
+        TimeControl clock = TimeControl.of(Duration.ofSeconds(60), Duration.ofSeconds(1), 3);
+        Game game = new Game(new AllocatingPlayer("Player1"), new SimplePlayer("Player2"), GameOutput.none(), clock);
+        game.setMetricsEnabled(true);
+        GameMetrics metrics = game.start().metrics();
+
+        assertEquals(0, metrics.getCpuUnavailable(Cells.PLAYER1, GameMetrics.Operation.PLAY));
+        assertEquals(0, metrics.getAllocationUnavailable(Cells.PLAYER1, GameMetrics.Operation.PLAY));
+        assertTrue(metrics.getCpu(Cells.PLAYER1, GameMetrics.Operation.PLAY).getCount() > 0);
+        assertTrue(metrics.getAllocatedBytesPerCall(Cells.PLAYER1, GameMetrics.Operation.PLAY) >= AllocatingPlayer.BYTES);
+    }
+
+    /**
+     * Jogador que aloca um buffer a cada jogada.
+     */
+    private static class AllocatingPlayer extends SimplePlayer {
+        static final int BYTES = 16 * 1024;
+        private byte[] lastBuffer;
+
+        AllocatingPlayer(String name) {
+            super(name);
+        }
+
+        @Override
+        public PieceAction play(BoardView board, Feedback myLastFeedback, Feedback enemyLastFeedback) {
+            lastBuffer = new byte[BYTES];
+            return super.play(board, myLastFeedback, enemyLastFeedback);
+        }
+    }
+
+    /**
+     * Jogador que bloqueia em cada jogada, respeitando a interrupção.
+     */
+    private static class SlowPlayer extends SimplePlayer {
+        private final CountDownLatch started;
+
+        SlowPlayer(String name, CountDownLatch started) {
+            super(name);
+            this.started = started;
+        }
+
+        @Override
+        public Piece[][] setup(Board board) {
+            started.countDown();
+            return super.setup(board);
+        }
+
+        @Override
+        public PieceAction play(BoardView board, Feedback myLastFeedback, Feedback enemyLastFeedback) {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            return super.play(board, myLastFeedback, enemyLastFeedback);
+        }
+    }
+}
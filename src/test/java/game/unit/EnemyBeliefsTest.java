@@ -0,0 +1,156 @@
+package game.unit;
+
+import game.Board;
+import game.Cells;
+import game.pieces.*;
+import game.players.EnemyBeliefs;
+import game.players.SimplePlayer;
+import game.search.Determinizer;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnemyBeliefsTest {
+
+    @SneakyThrows
+    @Test
+    public void initialBeliefFollowsPieceQuantities() {
+        EnemyBeliefs beliefs = new EnemyBeliefs("player1", true);
+
+        assertEquals(8 / 40.0, beliefs.probability(6, 0, QuantityPerPiece.SOLDIER), 1e-12);
+        assertEquals(6 / 40.0, beliefs.probability(9, 9, QuantityPerPiece.LAND_MINE), 1e-12);
+        assertEquals(0.0, beliefs.probability(3, 0, QuantityPerPiece.SOLDIER));
+    }
+
+    @SneakyThrows
+    @Test
+    public void movedPieceIsNeitherLandMineNorPrisoner() {
+        Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
+        Soldier soldier = new Soldier("player2", board);
+        board.setPiece(6, 0, soldier);
+        EnemyBeliefs beliefs = new EnemyBeliefs("player1", true);
+
+        beliefs.update(soldier.move(5, 0, board));
+
+        assertEquals(0.0, beliefs.probability(6, 0, QuantityPerPiece.SOLDIER));
+        assertEquals(0.0, beliefs.probability(5, 0, QuantityPerPiece.LAND_MINE));
+        assertEquals(0.0, beliefs.probability(5, 0, QuantityPerPiece.PRISONER));
+        assertEquals(8 / 33.0, beliefs.probability(5, 0, QuantityPerPiece.SOLDIER), 1e-12);
+        assertNull(beliefs.getKnownType(5, 0));
+    }
+
+    @SneakyThrows
+    @Test
+    public void capturedPieceLeavesTheRemainingCount() {
+        Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
+        Captain captain = new Captain("player1", board);
+        board.setPiece(5, 1, captain);
+        board.setPiece(6, 1, new Soldier("player2", board));
+        EnemyBeliefs beliefs = new EnemyBeliefs("player1", true);
+        long key = beliefs.getKey();
+
+        beliefs.update(captain.move(6, 1, board));
+
+        assertEquals(7, beliefs.getRemaining(QuantityPerPiece.SOLDIER));
+        assertEquals(0.0, beliefs.probability(6, 1, QuantityPerPiece.SOLDIER));
+        assertEquals(7 / 39.0, beliefs.probability(9, 9, QuantityPerPiece.SOLDIER), 1e-12);
+        assertNotEquals(key, beliefs.getKey());
+    }
+
+    @SneakyThrows
+    @Test
+    public void winningEnemyIsIdentified() {
+        Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
+        Soldier soldier = new Soldier("player1", board);
+        board.setPiece(5, 2, soldier);
+        board.setPiece(6, 2, new General("player2", board));
+        EnemyBeliefs beliefs = new EnemyBeliefs("player1", true);
+
+        beliefs.update(soldier.move(6, 2, board));
+
+        assertEquals(QuantityPerPiece.GENERAL, beliefs.getKnownType(6, 2));
+        assertEquals(1.0, beliefs.probability(6, 2, QuantityPerPiece.GENERAL));
+        assertEquals(0.0, beliefs.probability(9, 9, QuantityPerPiece.GENERAL));
+    }
+
+    @SneakyThrows
+    @Test
+    public void determinizationKeepsKnownTypesAndPieceCounts() {
+        Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
+        board.player2.setRandom(new SplittableRandom(1));
+        board.addPlayerSetup(board.player2.setup(board), 2);
+        // Soldado ataca a primeira peça mais forte que ele na linha de frente adversária e a revela
+        int col = 0;
+        while (board.getPiece(6, col).getStrength() <= 2 || board.getPiece(6, col) instanceof LandMine) {
+            col++;
+        }
+        Soldier soldier = new Soldier("player1", board);
+        board.setPiece(5, col, soldier);
+        EnemyBeliefs beliefs = new EnemyBeliefs("player1", true);
+        beliefs.update(soldier.move(6, col, board));
+        QuantityPerPiece revealed = beliefs.getKnownType(6, col);
+        Board copy = board.getHiddenView("player1").copy();
+
+        beliefs.determinize(copy, "player2", new SplittableRandom(2));
+
+        int[] counts = new int[QuantityPerPiece.values().length];
+        for (int x = 0; x < Board.ROWS; x++) {
+            for (int y = 0; y < Board.COLS; y++) {
+                byte cell = copy.getCell(x, y);
+                if (!Cells.isEmpty(cell) && Cells.owner(cell) == Cells.PLAYER2) {
+                    counts[Cells.type(cell).ordinal()]++;
+                }
+            }
+        }
+        for (QuantityPerPiece type : QuantityPerPiece.values()) {
+            assertEquals(beliefs.getRemaining(type), counts[type.ordinal()], type.getCode());
+        }
+        assertNotNull(revealed);
+        assertEquals(revealed, Cells.type(copy.getCell(6, col)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void repeatedDeterminizationReusesPieces() {
+        Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
+        board.player2.setRandom(new SplittableRandom(1));
+        board.addPlayerSetup(board.player2.setup(board), 2);
+        Board copy = board.getHiddenView("player1").copy();
+        Determinizer determinizer = new EnemyBeliefs("player1", true).determinizer("player2");
+        SplittableRandom random = new SplittableRandom(3);
+
+        determinizer.determinize(copy, random);
+        int nextId = copy.allocatePieceId();
+        for (int i = 0; i < 100; i++) {
+            determinizer.determinize(copy, random);
+        }
+
+        // Nenhuma peça nova foi criada depois do primeiro sorteio
+        assertEquals(nextId + 1, copy.allocatePieceId());
+        Set<Piece> pieces = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int x = 0; x < Board.ROWS; x++) {
+            for (int y = 0; y < Board.COLS; y++) {
+                if (copy.getPiece(x, y) != null) {
+                    pieces.add(copy.getPiece(x, y));
+                }
+            }
+        }
+        assertEquals(40, pieces.size());
+    }
+}
@@ -6,8 +6,11 @@ import game.feedbacks.DefeatFeedback;
 import game.feedbacks.EqualStrengthFeedback;
 import game.pieces.Captain;
 import game.pieces.Colonel;
+import game.pieces.CombatTable;
+import game.pieces.QuantityPerPiece;
 import game.pieces.SecretAgent;
 import game.pieces.Soldier;
+import game.players.SimplePlayer;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +22,8 @@ public class FightTest {
     @Test
     public void sameStrength() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Captain c1 = new Captain("player1", board);
         board.setPiece(0, 1, c1);
         Captain c2 = new Captain("player2", board);
@@ -33,6 +38,8 @@ public class FightTest {
     @Test
     public void higherStrength() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Colonel cr = new Colonel("player1", board);
         board.setPiece(0, 1, cr);
         Soldier s = new Soldier("player2", board);
@@ -47,6 +54,8 @@ public class FightTest {
     @Test
     public void smallerStrength() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Soldier s = new Soldier("player1", board);
         board.setPiece(0, 1, s);
         Colonel cr = new Colonel("player2", board);
@@ -61,6 +70,8 @@ public class FightTest {
     @Test
     public void secretAgentXColonel() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         SecretAgent sa = new SecretAgent("player1", board);
         board.setPiece(0, 1, sa);
         Colonel l = new Colonel("player2", board);
@@ -75,6 +86,8 @@ public class FightTest {
     @Test
     public void colonelXSecretAgent() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Colonel l = new Colonel("player1", board);
         board.setPiece(0, 1, l);
         SecretAgent sa = new SecretAgent("player2", board);
@@ -84,4 +97,17 @@ public class FightTest {
         assertTrue(f instanceof AttackFeedback);
         assertEquals("CR de player1 eliminou AS de player2 e se moveu de [A, 2] para [A, 3]", f.getMessage());
     }
+
+    @SneakyThrows
+    @Test
+    public void combatTablePredictsSpecialRules() {
+        assertEquals(CombatTable.ATTACKER_WINS, CombatTable.outcome(QuantityPerPiece.SECRET_AGENT, QuantityPerPiece.COLONEL));
+        assertEquals(CombatTable.ATTACKER_WINS, CombatTable.outcome(QuantityPerPiece.COLONEL, QuantityPerPiece.SECRET_AGENT));
+        assertEquals(CombatTable.DEFENDER_WINS, CombatTable.outcome(QuantityPerPiece.SECRET_AGENT, QuantityPerPiece.GENERAL));
+        assertEquals(CombatTable.LAND_MINE_DEACTIVATED, CombatTable.outcome(QuantityPerPiece.CORPORAL, QuantityPerPiece.LAND_MINE));
+        assertEquals(CombatTable.LAND_MINE_EXPLODES, CombatTable.outcome(QuantityPerPiece.GENERAL, QuantityPerPiece.LAND_MINE));
+        assertEquals(CombatTable.PRISONER_FOUND, CombatTable.outcome(QuantityPerPiece.SOLDIER, QuantityPerPiece.PRISONER));
+        assertEquals(CombatTable.BOTH_ELIMINATED, CombatTable.outcome(QuantityPerPiece.MAJOR, QuantityPerPiece.MAJOR));
+        assertEquals(CombatTable.ILLEGAL, CombatTable.outcome(QuantityPerPiece.LAND_MINE, QuantityPerPiece.SOLDIER));
+    }
 }
@@ -0,0 +1,112 @@
+package game.unit;
+
+import game.Board;
+import game.Game;
+import game.GameResult;
+import game.output.AsyncGameOutput;
+import game.output.GameOutput;
+import game.pieces.Piece;
+import game.players.SimplePlayer;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameOutputTest {
+
+    @SneakyThrows
+    @Test
+    public void asyncOutputWritesEveryLineInOrder() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncGameOutput output = new AsyncGameOutput(bytes, 8);
+
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            output.println("linha " + i);
+            expected.append("linha ").append(i).append('\n');
+        }
+        output.close();
+
+        assertEquals(expected.toString(), bytes.toString(StandardCharsets.UTF_8));
+        assertThrows(IllegalStateException.class, () -> output.println("depois"));
+    }
+
+    @SneakyThrows
+    @Test
+    public void headlessGameWritesNothingToConsole() {
+        PrintStream original = System.out;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bytes));
+        try {
+            new Game(new SimplePlayer("Player1"), new SimplePlayer("Player2"), GameOutput.none()).start();
+        } finally {
+            System.setOut(original);
+        }
+
+        assertEquals(0, bytes.size());
+    }
+
+    @SneakyThrows
+    @Test
+    public void asyncOutputKeepsEveryLineFromConcurrentGamesWhenFull() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncGameOutput output = new AsyncGameOutput(bytes, 2);
+
+        List<Thread> games = new ArrayList<>();
+        for (int game = 0; game < 8; game++) {
+            int id = game;
+            games.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 500; i++) {
+                    output.println(id + ":" + i);
+                }
+            }));
+        }
+        for (Thread game : games) {
+            game.join();
+        }
+        output.close();
+
+        String[] lines = bytes.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(8 * 500, lines.length);
+        int[] next = new int[8];
+        for (String line : lines) {
+            String[] parts = line.split(":");
+            int game = Integer.parseInt(parts[0]);
+            assertEquals(next[game]++, Integer.parseInt(parts[1]));
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void invalidSetupIsReportedOnlyThroughTheGameOutput() {
+        SimplePlayer invalid = new SimplePlayer("Player1") {
+            @Override
+            public Piece[][] setup(Board board) {
+                return new Piece[4][10];
+            }
+        };
+        PrintStream original = System.out;
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(console));
+        try {
+            GameResult headless = new Game(invalid, new SimplePlayer("Player2"), GameOutput.none()).start();
+            assertEquals(GameResult.Reason.INVALID_SETUP, headless.reason());
+
+            try (AsyncGameOutput output = new AsyncGameOutput(bytes, 8)) {
+                new Game(invalid, new SimplePlayer("Player2"), output).start();
+            }
+        } finally {
+            System.setOut(original);
+        }
+
+        assertEquals(0, console.size());
+        assertTrue(bytes.toString(StandardCharsets.UTF_8).contains("Erro: Esperado"));
+    }
+}
@@ -4,6 +4,7 @@ import game.Board;
 import game.feedbacks.LandMineDeactivationFeedback;
 import game.feedbacks.LandmineFeedback;
 import game.pieces.*;
+import game.players.SimplePlayer;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +16,8 @@ public class LandMineTest {
     @Test
     public void captainXLandMine() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Captain c = new Captain("player1", board);
         board.setPiece(0, 1, c);
         LandMine l = new LandMine("player2", board);
@@ -29,6 +32,8 @@ public class LandMineTest {
     @Test
     public void colonelXLandMine() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Colonel col = new Colonel("player1", board);
         board.setPiece(0, 1, col);
         LandMine l = new LandMine("player2", board);
@@ -43,6 +48,8 @@ public class LandMineTest {
     @Test
     public void corporalXLandMine() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Corporal corp = new Corporal("player1", board);
         board.setPiece(0, 1, corp);
         LandMine l = new LandMine("player2", board);
@@ -57,6 +64,8 @@ public class LandMineTest {
     @Test
     public void generalXLandMine() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         General g = new General("player1", board);
         board.setPiece(0, 1, g);
         LandMine l = new LandMine("player2", board);
@@ -71,6 +80,8 @@ public class LandMineTest {
     @Test
     public void lieutenantXLandMine() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Lieutenant lt = new Lieutenant("player1", board);
         board.setPiece(0, 1, lt);
         LandMine l = new LandMine("player2", board);
@@ -85,6 +96,8 @@ public class LandMineTest {
     @Test
     public void majorXLandMine() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Major mj = new Major("player1", board);
         board.setPiece(0, 1, mj);
         LandMine l = new LandMine("player2", board);
@@ -99,6 +112,8 @@ public class LandMineTest {
     @Test
     public void sargentXLandMine() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Sargent sg = new Sargent("player1", board);
         board.setPiece(0, 1, sg);
         LandMine l = new LandMine("player2", board);
@@ -113,6 +128,8 @@ public class LandMineTest {
     @Test
     public void secretAgentXLandMine() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         SecretAgent sa = new SecretAgent("player1", board);
         board.setPiece(0, 1, sa);
         LandMine l = new LandMine("player2", board);
@@ -127,6 +144,8 @@ public class LandMineTest {
     @Test
     public void soldierXLandMine() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Soldier s = new Soldier("player1", board);
         board.setPiece(0, 1, s);
         LandMine l = new LandMine("player2", board);
@@ -141,6 +160,8 @@ public class LandMineTest {
     @Test
     public void subLieuTenantXLandMine() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Sublieutenant sg = new Sublieutenant("player1", board);
         board.setPiece(0, 1, sg);
         LandMine l = new LandMine("player2", board);
@@ -0,0 +1,44 @@
+package game.unit;
+
+import game.metrics.LatencyHistogram;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @SneakyThrows
+    @Test
+    public void percentilesStayWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(50_000_000, histogram.getPercentile(50), 50_000_000 * 0.04);
+        assertEquals(99_000_000, histogram.getPercentile(99), 99_000_000 * 0.04);
+        assertEquals(99_900_000, histogram.getPercentile(99.9), 99_900_000 * 0.04);
+        assertEquals(100_000_000, histogram.getPercentile(100));
+    }
+
+    @SneakyThrows
+    @Test
+    public void mergeAddsSamples() {
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            fast.record(10);
+        }
+        slow.record(1_000_000);
+
+        fast.merge(slow);
+
+        assertEquals(100, fast.getCount());
+        assertEquals(10, fast.getPercentile(50));
+        assertEquals(1_000_000, fast.getPercentile(100));
+        assertEquals(1_000_000, fast.getMax());
+    }
+}
@@ -0,0 +1,137 @@
+package game.unit;
+
+import game.Board;
+import game.Cells;
+import game.MoveUndo;
+import game.feedbacks.AttackFeedback;
+import game.feedbacks.InvalidMoveFeedback;
+import game.feedbacks.LandmineFeedback;
+import game.pieces.*;
+import game.players.SimplePlayer;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MakeUnmakeTest {
+
+    private Board newBoard() {
+        Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
+        return board;
+    }
+
+    @SneakyThrows
+    @Test
+    public void unmakeAttackRestoresBothPieces() {
+        Board board = newBoard();
+        Major mj = new Major("player1", board);
+        board.setPiece(0, 1, mj);
+        Sargent sg = new Sargent("player2", board);
+        board.setPiece(0, 2, sg);
+
+        MoveUndo undo = board.makeMove(new PieceAction(mj, 0, 2));
+        assertInstanceOf(AttackFeedback.class, undo.getFeedback());
+        assertSame(mj, board.getPiece(0, 2));
+        assertEquals(1, board.numberMoves);
+
+        board.unmakeMove(undo);
+
+        assertSame(mj, board.getPiece(0, 1));
+        assertSame(sg, board.getPiece(0, 2));
+        assertEquals(0, mj.getPosX());
+        assertEquals(1, mj.getPosY());
+        assertEquals(0, board.numberMoves);
+        assertEquals(1, board.getMovablePieces(Cells.PLAYER2));
+    }
+
+    @SneakyThrows
+    @Test
+    public void unmakeLandMineRestoresMineAndVictim() {
+        Board board = newBoard();
+        Captain cp = new Captain("player1", board);
+        board.setPiece(0, 1, cp);
+        LandMine l = new LandMine("player2", board);
+        board.setPiece(0, 2, l);
+
+        MoveUndo undo = board.makeMove(new PieceAction(cp, 0, 2));
+        assertInstanceOf(LandmineFeedback.class, undo.getFeedback());
+        assertNull(board.getPiece(0, 1));
+        assertNull(board.getPiece(0, 2));
+
+        board.unmakeMove(undo);
+
+        assertSame(cp, board.getPiece(0, 1));
+        assertSame(l, board.getPiece(0, 2));
+        assertEquals(1, board.getMovablePieces(Cells.PLAYER1));
+    }
+
+    @SneakyThrows
+    @Test
+    public void unmakeRestoresLastPiecesPlayed() {
+        Board board = newBoard();
+        Captain cp = new Captain("player1", board);
+        board.setPiece(0, 1, cp);
+
+        board.executeAction(new PieceAction(cp, 0, 2));
+        board.executeAction(new PieceAction(cp, 0, 1));
+        MoveUndo undo = board.makeMove(new PieceAction(cp, 0, 2));
+        board.unmakeMove(undo);
+
+        // Apenas duas jogadas da mesma peça registradas: a terceira ainda é permitida
+        assertFalse(board.makeMove(new PieceAction(cp, 0, 2)).getFeedback() instanceof InvalidMoveFeedback);
+        assertInstanceOf(InvalidMoveFeedback.class, board.executeAction(new PieceAction(cp, 0, 1)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void hashFollowsPositionAndSideToMove() {
+        Board board = newBoard();
+        Major mj = new Major("player1", board);
+        board.setPiece(0, 1, mj);
+        Sargent sg = new Sargent("player2", board);
+        board.setPiece(0, 3, sg);
+        long initial = board.hash();
+
+        MoveUndo undo = board.makeMove(new PieceAction(mj, 0, 2));
+        assertNotEquals(initial, board.hash());
+
+        Board other = newBoard();
+        other.setPiece(0, 3, new Sargent("player2", other));
+        other.setPiece(0, 2, new Major("player1", other));
+        assertNotEquals(other.hash(), board.hash());
+        other.executeAction(null);
+        assertEquals(other.hash(), board.hash());
+
+        board.unmakeMove(undo);
+        assertEquals(initial, board.hash());
+        assertEquals(initial, new Board(board).hash());
+    }
+
+    @SneakyThrows
+    @Test
+    public void hashUsesTheSideToMoveWhenPlayer2Opens() {
+        Board board = newBoard();
+        Major mj = new Major("player1", board);
+        board.setPiece(0, 1, mj);
+        Sargent sg = new Sargent("player2", board);
+        board.setPiece(0, 3, sg);
+        board.setSideToMove(Cells.PLAYER2);
+        long initial = board.hash();
+
+        MoveUndo undo = board.makeMove(new PieceAction(sg, 0, 4));
+        assertEquals(Cells.PLAYER1, board.getSideToMove());
+
+        // Mesma posição, com o Player1 da vez, alcançada sem nenhuma jogada
+        Board other = newBoard();
+        other.setPiece(0, 1, new Major("player1", other));
+        other.setPiece(0, 4, new Sargent("player2", other));
+        assertEquals(other.hash(), board.hash());
+        assertEquals(other.viewHash(Cells.PLAYER1), board.viewHash(Cells.PLAYER1));
+
+        board.unmakeMove(undo);
+        assertEquals(Cells.PLAYER2, board.getSideToMove());
+        assertEquals(initial, board.hash());
+    }
+}
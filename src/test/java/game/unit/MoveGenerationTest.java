@@ -0,0 +1,106 @@
+package game.unit;
+
+import game.Board;
+import game.Moves;
+import game.feedbacks.InvalidMoveFeedback;
+import game.pieces.*;
+import game.players.SimplePlayer;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveGenerationTest {
+
+    private Board newBoard() {
+        Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
+        return board;
+    }
+
+    private Set<Integer> generate(Board board, String player) {
+        int[] out = new int[Moves.MAX_MOVES];
+        int count = board.generateMoves(player, out);
+        Set<Integer> moves = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            moves.add(out[i]);
+        }
+        return moves;
+    }
+
+    @SneakyThrows
+    @Test
+    public void piecesStepOneHouseAndAvoidLakesAndAllies() {
+        Board board = newBoard();
+        Sargent sg = new Sargent("player1", board);
+        board.setPiece(3, 2, sg);
+        Captain cp = new Captain("player1", board);
+        board.setPiece(3, 3, cp);
+        LandMine l = new LandMine("player1", board);
+        board.setPiece(0, 0, l);
+
+        Set<Integer> moves = generate(board, "player1");
+
+        assertTrue(moves.contains(Moves.encode(3, 2, 2, 2)));
+        assertTrue(moves.contains(Moves.encode(3, 2, 3, 1)));
+        assertFalse(moves.contains(Moves.encode(3, 2, 4, 2)));
+        assertFalse(moves.contains(Moves.encode(3, 2, 3, 3)));
+        assertTrue(moves.contains(Moves.encode(3, 3, 3, 4)));
+        assertEquals(4, moves.size());
+    }
+
+    @SneakyThrows
+    @Test
+    public void soldierSlidesButOnlyAttacksNeighbour() {
+        Board board = newBoard();
+        Soldier s = new Soldier("player1", board);
+        board.setPiece(0, 0, s);
+        Major mj = new Major("player2", board);
+        board.setPiece(0, 3, mj);
+        Major mj2 = new Major("player2", board);
+        board.setPiece(1, 0, mj2);
+
+        Set<Integer> moves = generate(board, "player1");
+
+        assertEquals(Set.of(
+                Moves.encode(0, 0, 0, 1),
+                Moves.encode(0, 0, 0, 2),
+                Moves.encode(0, 0, 1, 0)), moves);
+    }
+
+    @SneakyThrows
+    @Test
+    public void soldierSlideStopsAtLake() {
+        Board board = newBoard();
+        Soldier s = new Soldier("player1", board);
+        board.setPiece(2, 2, s);
+
+        Set<Integer> moves = generate(board, "player1");
+
+        assertTrue(moves.contains(Moves.encode(2, 2, 3, 2)));
+        assertFalse(moves.contains(Moves.encode(2, 2, 4, 2)));
+        assertFalse(moves.contains(Moves.encode(2, 2, 6, 2)));
+        assertInstanceOf(InvalidMoveFeedback.class, board.executeAction(new PieceAction(s, 6, 2)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void pieceMovedThreeTimesInARowIsNotGenerated() {
+        Board board = newBoard();
+        Captain cp = new Captain("player1", board);
+        board.setPiece(0, 1, cp);
+        Prisoner ps = new Prisoner("player1", board);
+        board.setPiece(0, 0, ps);
+
+        board.executeAction(new PieceAction(cp, 0, 2));
+        board.executeAction(new PieceAction(cp, 0, 1));
+        board.executeAction(new PieceAction(cp, 0, 2));
+
+        assertTrue(generate(board, "player1").isEmpty());
+        assertInstanceOf(InvalidMoveFeedback.class, board.executeAction(new PieceAction(cp, 1, 2)));
+    }
+}
@@ -4,9 +4,14 @@ package game.unit;
 import game.Board;
 import game.feedbacks.Feedback;
 import game.feedbacks.InvalidMoveFeedback;
+import game.feedbacks.MoveFeedback;
 import game.pieces.LandMine;
+import game.pieces.OpponentPiece;
+import game.pieces.Piece;
+import game.pieces.PieceAction;
 import game.pieces.Prisoner;
 import game.pieces.Sargent;
+import game.players.SimplePlayer;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 
@@ -18,6 +23,8 @@ public class MoveTest {
     @Test
     public void prisonerXLandMine() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Prisoner ps = new Prisoner("player1", board);
         board.setPiece(0, 1, ps);
         LandMine l = new LandMine("player2", board);
@@ -30,6 +37,8 @@ public class MoveTest {
     @Test
     public void landMineMove() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Sargent sg = new Sargent("player1", board);
         board.setPiece(0, 1, sg);
         LandMine l = new LandMine("player2", board);
@@ -42,6 +51,8 @@ public class MoveTest {
     @Test
     public void PieceMove() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        board.player2 = new SimplePlayer("player2");
         Sargent sg = new Sargent("player1", board);
         board.setPiece(0, 1, sg);
         LandMine l = new LandMine("player2", board);
@@ -54,6 +65,7 @@ public class MoveTest {
     @Test
     public void moveToPieceOfSamePlayer() {
         Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
         Sargent sg = new Sargent("player1", board);
         board.setPiece(0, 1, sg);
         LandMine l = new LandMine("player1", board);
@@ -62,4 +74,38 @@ public class MoveTest {
         Feedback feedback = sg.move(0, 2, board);
         assertInstanceOf(InvalidMoveFeedback.class, feedback);
     }
+
+    @SneakyThrows
+    @Test
+    public void pieceIdsAreAllocatedByBoardAndKeptByCopies() {
+        Board board = new Board();
+        Sargent sg = new Sargent("player1", board);
+        LandMine l = new LandMine("player2", board);
+
+        assertEquals(0, sg.getId());
+        assertEquals(1, l.getId());
+        assertEquals(sg.getId(), sg.copyWithoutBoard().getId());
+        assertTrue(sg.equals(sg.copy(new Board())));
+        assertFalse(sg.equals(l));
+        assertEquals(Piece.NO_ID, new OpponentPiece(sg).getId());
+    }
+
+    @SneakyThrows
+    @Test
+    public void piecesWithoutBoardGetDistinctIdsWhenPlaced() {
+        Board board = new Board();
+        board.player1 = new SimplePlayer("player1");
+        Sargent first = new Sargent("player1", null);
+        Sargent second = new Sargent("player1", null);
+        board.setPiece(3, 0, first);
+        board.setPiece(3, 9, second);
+
+        assertNotEquals(Piece.NO_ID, first.getId());
+        assertNotEquals(first.getId(), second.getId());
+        // Alternar entre as duas peças nunca repete a mesma peça
+        assertInstanceOf(MoveFeedback.class, board.executeAction(new PieceAction(first, 4, 0)));
+        assertInstanceOf(MoveFeedback.class, board.executeAction(new PieceAction(second, 4, 9)));
+        assertInstanceOf(MoveFeedback.class, board.executeAction(new PieceAction(first, 5, 0)));
+        assertInstanceOf(MoveFeedback.class, board.executeAction(new PieceAction(second, 5, 9)));
+    }
 }
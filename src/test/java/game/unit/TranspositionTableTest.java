@@ -0,0 +1,73 @@
+package game.unit;
+
+import game.search.TranspositionTable;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TranspositionTableTest {
+
+    @SneakyThrows
+    @Test
+    public void storeAndProbe() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(42L, 3, TranspositionTable.LOWER_BOUND, 12.5, 1234);
+
+        long entry = table.probe(42L);
+        assertNotEquals(TranspositionTable.MISS, entry);
+        assertEquals(12.5, TranspositionTable.score(entry));
+        assertEquals(3, TranspositionTable.depth(entry));
+        assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.flag(entry));
+        assertEquals(1234, TranspositionTable.move(entry));
+        assertEquals(TranspositionTable.MISS, table.probe(43L));
+    }
+
+    @SneakyThrows
+    @Test
+    public void deeperEntryIsKeptAndShallowGoesToAlwaysReplace() {
+        TranspositionTable table = new TranspositionTable(1);
+        int buckets = table.capacity() / 2;
+        long deep = 7L;
+        long shallow = deep + buckets;
+        long newer = deep + 2L * buckets;
+
+        table.store(deep, 8, TranspositionTable.EXACT, 1.0, 1);
+        table.store(shallow, 2, TranspositionTable.EXACT, 2.0, 2);
+        assertEquals(8, TranspositionTable.depth(table.probe(deep)));
+        assertEquals(2, TranspositionTable.depth(table.probe(shallow)));
+
+        table.store(newer, 1, TranspositionTable.EXACT, 3.0, 3);
+        assertNotEquals(TranspositionTable.MISS, table.probe(deep));
+        assertEquals(TranspositionTable.MISS, table.probe(shallow));
+        assertEquals(3, TranspositionTable.move(table.probe(newer)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void concurrentWritersNeverReturnForeignData() {
+        TranspositionTable table = new TranspositionTable(1);
+        AtomicInteger corrupted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.execute(() -> {
+                for (long key = 1; key < 200_000; key++) {
+                    table.store(key, (int) (key & 0x7F), TranspositionTable.EXACT, key & 0xFFFF, (int) (key & 0xFFFF));
+                    long probed = key - 7;
+                    long entry = table.probe(probed);
+                    if (entry != TranspositionTable.MISS && TranspositionTable.move(entry) != (int) (probed & 0xFFFF)) {
+                        corrupted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(0, corrupted.get());
+    }
+}